@@ -0,0 +1,283 @@
+package org.gklyphon.Reservation.batch;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.service.IReservationService;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group-commit writer for reservation creation bursts.
+ *
+ * <p>Callers queue their reservation and wait on a future while a single writer thread drains the queue:
+ * it collects reservations for up to {@code reservation.group-commit.window} or until
+ * {@code reservation.group-commit.max-batch-size} are queued, and saves them with
+ * {@link IReservationService#saveAll(List)} in one transaction, paying a single commit for the whole batch.</p>
+ *
+ * <p>If the batch transaction fails, its reservations are saved again one by one, so each caller gets the same
+ * success or failure it would have got from {@link IReservationService#save(ReservationDTO)}. When the queue is
+ * full, the caller saves its reservation directly instead of waiting.</p>
+ *
+ * <p>Each queued reservation is claimed exactly once, either by the writer when it adds it to a batch or by its
+ * caller when it gives up waiting. A caller that times out or is interrupted before the writer claims its
+ * reservation withdraws it, so it is never saved behind its back; once the writer has claimed it, the caller
+ * waits for the outcome instead, since the reservation is already being saved.</p>
+ *
+ * <p>Only active when {@code reservation.group-commit.enabled=true}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.group-commit.enabled", havingValue = "true")
+public class ReservationGroupCommitWriter {
+
+    private final IReservationService service;
+    private final BlockingQueue<PendingReservation> queue;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * Creates the writer.
+     *
+     * @param service the service used to save the reservations
+     * @param window the maximum time a batch waits for more reservations after its first one
+     * @param maxBatchSize the maximum number of reservations saved in one transaction
+     * @param queueCapacity the maximum number of queued reservations
+     * @param timeout the maximum time a caller waits for its reservation to be saved
+     */
+    public ReservationGroupCommitWriter(IReservationService service,
+                                        @Value("${reservation.group-commit.window:5ms}") Duration window,
+                                        @Value("${reservation.group-commit.max-batch-size:100}") int maxBatchSize,
+                                        @Value("${reservation.group-commit.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${reservation.group-commit.timeout:30s}") Duration timeout) {
+        this.service = service;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = Thread.ofPlatform().name("reservation-group-commit").daemon().start(this::drain);
+    }
+
+    /**
+     * Stops the writer thread once the reservations already queued are saved.
+     * Reservations still queued afterwards, if the writer did not finish in time, are failed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(timeout.toMillis());
+        List<PendingReservation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.stream().filter(PendingReservation::claim).forEach(pending -> pending.result()
+                .completeExceptionally(new ServiceException("The reservation writer stopped before saving the reservation.")));
+    }
+
+    /**
+     * Saves a reservation as part of the next batch and waits for the outcome.
+     *
+     * @param reservationDTO the reservation to save
+     * @return the saved reservation
+     * @throws ServiceException if the reservation could not be saved or was not saved in time
+     */
+    public Reservation write(ReservationDTO reservationDTO) {
+        PendingReservation pending = new PendingReservation(reservationDTO);
+        if (!running || !queue.offer(pending)) {
+            return service.save(reservationDTO);
+        }
+        if (!running && pending.claim()) {
+            // The writer stopped while the reservation was being queued and will not pick it up.
+            return service.save(reservationDTO);
+        }
+        try {
+            return pending.result().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (TimeoutException e) {
+            if (pending.claim()) {
+                pending.result().cancel(false);
+                throw new ServiceException("Timed out waiting for the reservation to be saved.", e);
+            }
+            return awaitClaimed(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.claim()) {
+                pending.result().cancel(false);
+                throw new ServiceException("Interrupted while waiting for the reservation to be saved.", e);
+            }
+            return awaitClaimed(pending);
+        }
+    }
+
+    /**
+     * Waits, without a timeout and uninterruptibly, for a reservation the writer has already claimed.
+     *
+     * @param pending the queued reservation
+     * @return the saved reservation
+     */
+    private Reservation awaitClaimed(PendingReservation pending) {
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            throw failure(e.getCause());
+        }
+    }
+
+    /**
+     * Rethrows the failure of a reservation as the unchecked exception the caller expects.
+     *
+     * @param cause the exception the future was completed with
+     * @return the exception to throw
+     */
+    private static RuntimeException failure(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new ServiceException("Unexpected error while saving reservation.", cause);
+    }
+
+    /**
+     * Writer loop: collects batches from the queue and saves them until stopped,
+     * then saves whatever is left in the queue.
+     */
+    private void drain() {
+        while (running) {
+            try {
+                List<PendingReservation> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        List<PendingReservation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.removeIf(pending -> !pending.claim());
+        for (int from = 0; from < remaining.size(); from += maxBatchSize) {
+            writeBatch(remaining.subList(from, Math.min(from + maxBatchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * Waits for a first reservation, then collects more until the window elapses or the batch is full.
+     * Only the reservations the writer manages to claim are kept; the others were withdrawn by their callers.
+     *
+     * @return the collected batch, empty if nothing was queued for a while
+     * @throws InterruptedException if the writer thread is interrupted
+     */
+    private List<PendingReservation> nextBatch() throws InterruptedException {
+        List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+        PendingReservation first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null || !first.claim()) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        List<PendingReservation> drained = new ArrayList<>(maxBatchSize);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingReservation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            drained.add(next);
+            queue.drainTo(drained, maxBatchSize - batch.size() - 1);
+            drained.stream().filter(PendingReservation::claim).forEach(batch::add);
+            drained.clear();
+        }
+        return batch;
+    }
+
+    /**
+     * Saves a batch in one transaction and completes each future with its reservation.
+     * If the batch fails, each reservation is saved in its own transaction to isolate the failing ones.
+     *
+     * @param batch the queued reservations
+     */
+    private void writeBatch(List<PendingReservation> batch) {
+        try {
+            List<Reservation> reservations = service.saveAll(batch.stream().map(PendingReservation::reservationDTO).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(reservations.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("Group commit of {} reservations failed, saving them one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    /**
+     * Saves a single reservation in its own transaction and completes its future with the outcome.
+     *
+     * @param pending the queued reservation
+     */
+    private void writeOne(PendingReservation pending) {
+        try {
+            pending.result().complete(service.save(pending.reservationDTO()));
+        } catch (Exception e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * A queued reservation, the future completed with its outcome, and whether the writer or the caller has
+     * claimed it.
+     *
+     * @param reservationDTO the reservation to save
+     * @param result the future completed with the saved reservation or the failure
+     * @param claimed set by whoever takes charge of the reservation first
+     */
+    private record PendingReservation(ReservationDTO reservationDTO, CompletableFuture<Reservation> result,
+                                      AtomicBoolean claimed) {
+
+        PendingReservation(ReservationDTO reservationDTO) {
+            this(reservationDTO, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        /**
+         * Takes charge of the reservation.
+         *
+         * @return {@code true} if no one had claimed it yet
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
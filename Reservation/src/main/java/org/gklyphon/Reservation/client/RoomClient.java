@@ -0,0 +1,34 @@
+package org.gklyphon.Reservation.client;
+
+import org.gklyphon.Reservation.models.dtos.RoomBatchResultDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+
+/**
+ * Declarative HTTP client of the Room service.
+ *
+ * <p>Calls go through the pooled Apache HttpClient 5 connections configured by the
+ * {@code spring.cloud.openfeign.httpclient} properties, with the timeouts of the {@code room} client. They are sent
+ * with the {@code CRITICAL} priority class and the {@code room-service.internal-token} shared secret, without which
+ * the Room service ignores the priority class, so that it does not shed them in favour of browsing.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@FeignClient(name = "room", url = "${room-service.url}")
+public interface RoomClient {
+
+    /**
+     * Looks up several rooms with a single call.
+     *
+     * @param ids the IDs of the rooms, at most 100
+     * @return the rooms found, keyed by ID, and the IDs that match no room
+     */
+    @GetMapping(value = "/rooms/batch",
+            headers = {"X-Request-Priority=CRITICAL", "X-Internal-Token=${room-service.internal-token:}"})
+    RoomBatchResultDTO findAllByIds(@RequestParam("ids") Collection<Long> ids);
+}
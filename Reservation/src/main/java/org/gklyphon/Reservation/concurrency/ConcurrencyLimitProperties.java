@@ -0,0 +1,96 @@
+package org.gklyphon.Reservation.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the adaptive concurrency limits, bound from the {@code concurrency-limit} properties.
+ *
+ * <p>Each route group has its own limit, so a slow group does not use up the capacity of the others.
+ * A request belongs to the first group, in declaration order, matching its method and path; requests
+ * matching no group are not limited.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Whether requests are limited at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The delay sent in the {@code Retry-After} header of rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * The route groups, by name.
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * A set of routes sharing one concurrency limit.
+     */
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * The HTTP methods of the group, or every method when empty.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * The path patterns of the group, such as {@code /reservations/**}.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * The path patterns excluded from the group, such as long-running exports.
+         */
+        private List<String> excludedPaths = new ArrayList<>();
+
+        /**
+         * The limit used until latency has been observed.
+         */
+        private int initialLimit = 20;
+
+        /**
+         * The lowest limit the group can reach.
+         */
+        private int minLimit = 5;
+
+        /**
+         * The highest limit the group can reach.
+         */
+        private int maxLimit = 200;
+
+        /**
+         * The weight of a new estimate in the limit, between 0 and 1.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * How much slower than the long-term average latency a request can be before the limit shrinks.
+         */
+        private double tolerance = 1.5;
+
+        /**
+         * The number of requests averaged in the long-term latency.
+         */
+        private int longWindow = 600;
+    }
+}
@@ -0,0 +1,47 @@
+package org.gklyphon.Reservation.concurrency;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Samples the CPU load of the machine or container, reusing each sample for a fixed interval so that
+ * admitting a request does not query the operating system.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class CpuLoadSampler implements DoubleSupplier {
+
+    private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private final long intervalNanos;
+    private volatile double load = -1;
+    private volatile long sampledAt;
+
+    /**
+     * Creates a sampler.
+     *
+     * @param interval how long a sample is reused
+     */
+    public CpuLoadSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.sampledAt = System.nanoTime() - intervalNanos;
+    }
+
+    /**
+     * Returns the CPU load, between 0 and 1, or a negative value when the platform does not report it.
+     *
+     * @return the latest CPU load sample
+     */
+    @Override
+    public double getAsDouble() {
+        long now = System.nanoTime();
+        if (now - sampledAt >= intervalNanos) {
+            sampledAt = now;
+            load = operatingSystem instanceof com.sun.management.OperatingSystemMXBean os ? os.getCpuLoad() : -1;
+        }
+        return load;
+    }
+}
@@ -0,0 +1,233 @@
+package org.gklyphon.Reservation.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Admits requests into a fixed number of slots by priority class.
+ *
+ * <p>A request takes a free slot right away. Otherwise it waits in the bounded queue of its class, and a slot
+ * freed by a completing request goes to the oldest waiter of the highest class, so queued bookings always go before
+ * queued browsing. Once every slot is taken, a request is shed instead of
+ * queueing when the CPU load or the share of all queue capacity in use reaches the thresholds of its class;
+ * lower classes have lower thresholds and are shed first. A request is also shed when the queue of its class
+ * is full or when it waited longer than the maximum wait of its class.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class PriorityAdmissionController {
+
+    private final PriorityAdmissionProperties properties;
+    private final DoubleSupplier cpuLoad;
+    private final int totalQueueCapacity;
+    private final Map<PriorityClass, ArrayDeque<Waiter>> queues = new EnumMap<>(PriorityClass.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private int inFlight;
+    private int queued;
+
+    /**
+     * Creates an admission controller.
+     *
+     * @param properties the slots, queue and shedding settings
+     * @param cpuLoad the current CPU load, between 0 and 1, or a negative value when unknown
+     */
+    public PriorityAdmissionController(PriorityAdmissionProperties properties, DoubleSupplier cpuLoad) {
+        this.properties = properties;
+        this.cpuLoad = cpuLoad;
+        int capacity = 0;
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            queues.put(priorityClass, new ArrayDeque<>());
+            capacity += properties.settings(priorityClass).getQueueCapacity();
+        }
+        this.totalQueueCapacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Admits a request of a priority class, waiting for a slot if needed.
+     *
+     * @param priorityClass the priority class of the request
+     * @return the admission of the request, holding a slot to release once the request completes if admitted
+     * @throws InterruptedException if the thread is interrupted while waiting for a slot
+     */
+    public Admission admit(PriorityClass priorityClass) throws InterruptedException {
+        PriorityAdmissionProperties.ClassSettings settings = properties.settings(priorityClass);
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (inFlight < properties.getMaxConcurrent()) {
+                inFlight++;
+                return Admission.admitted(this);
+            }
+            ShedReason shedReason = shedReason(settings);
+            if (shedReason != null) {
+                return Admission.shed(shedReason);
+            }
+            ArrayDeque<Waiter> queue = queues.get(priorityClass);
+            if (queue.size() >= settings.getQueueCapacity()) {
+                return Admission.shed(ShedReason.QUEUE_FULL);
+            }
+            waiter = new Waiter();
+            queue.addLast(waiter);
+            queued++;
+        } finally {
+            lock.unlock();
+        }
+
+        boolean granted;
+        try {
+            granted = waiter.latch.await(settings.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            if (withdraw(priorityClass, waiter)) {
+                release();
+            }
+            throw e;
+        }
+        if (!granted) {
+            granted = withdraw(priorityClass, waiter);
+        }
+        return granted ? Admission.admitted(this) : Admission.shed(ShedReason.TIMEOUT);
+    }
+
+    /**
+     * Returns the number of requests holding a slot.
+     *
+     * @return the requests in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests of a priority class waiting for a slot.
+     *
+     * @param priorityClass the priority class
+     * @return the queued requests of the class
+     */
+    public int getQueued(PriorityClass priorityClass) {
+        lock.lock();
+        try {
+            return queues.get(priorityClass).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the slot of a completed request to the next waiter, or frees it when nobody waits.
+     */
+    void release() {
+        lock.lock();
+        try {
+            for (ArrayDeque<Waiter> queue : queues.values()) {
+                Waiter next = queue.pollFirst();
+                if (next != null) {
+                    queued--;
+                    next.granted = true;
+                    next.latch.countDown();
+                    return;
+                }
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ShedReason shedReason(PriorityAdmissionProperties.ClassSettings settings) {
+        if (cpuLoad.getAsDouble() >= settings.getCpuShedThreshold()) {
+            return ShedReason.CPU;
+        }
+        if ((double) queued / totalQueueCapacity >= settings.getQueueShedThreshold()) {
+            return ShedReason.QUEUE_DEPTH;
+        }
+        return null;
+    }
+
+    /**
+     * Removes a waiter that gave up, unless a slot was handed to it in the meantime.
+     *
+     * @return whether the waiter was granted a slot before giving up
+     */
+    private boolean withdraw(PriorityClass priorityClass, Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                return true;
+            }
+            queues.get(priorityClass).remove(waiter);
+            queued--;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Why a request was shed.
+     */
+    public enum ShedReason {
+        CPU, QUEUE_DEPTH, QUEUE_FULL, TIMEOUT
+    }
+
+    /**
+     * The outcome of an admission: either a slot to release once the request completes, or a shed reason.
+     */
+    public static final class Admission {
+
+        private final PriorityAdmissionController controller;
+        private final ShedReason shedReason;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Admission(PriorityAdmissionController controller, ShedReason shedReason) {
+            this.controller = controller;
+            this.shedReason = shedReason;
+        }
+
+        static Admission admitted(PriorityAdmissionController controller) {
+            return new Admission(controller, null);
+        }
+
+        static Admission shed(ShedReason shedReason) {
+            return new Admission(null, shedReason);
+        }
+
+        public boolean isAdmitted() {
+            return controller != null;
+        }
+
+        public ShedReason getShedReason() {
+            return shedReason;
+        }
+
+        /**
+         * Releases the slot of an admitted request. Only the first call has an effect.
+         */
+        public void release() {
+            if (controller != null && released.compareAndSet(false, true)) {
+                controller.release();
+            }
+        }
+    }
+
+    /**
+     * A request waiting for a slot.
+     */
+    private static final class Waiter {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private boolean granted;
+    }
+}
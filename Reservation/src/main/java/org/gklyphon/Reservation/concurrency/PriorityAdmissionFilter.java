@@ -0,0 +1,213 @@
+package org.gklyphon.Reservation.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.Reservation.exception.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Servlet filter classifying requests into {@link PriorityClass priority classes} and admitting them through a
+ * {@link PriorityAdmissionController}, so that browsing gives way to bookings when the service is at capacity.
+ *
+ * <p>Runs before the {@link ConcurrencyLimitFilter}. Shed requests are rejected with a 503 status and a
+ * {@code Retry-After} header. Requests completing asynchronously, such as streamed exports, hold their slot
+ * until the response is complete.</p>
+ *
+ * <p>The requests in flight, the queued requests and the shed requests are published as the
+ * {@code http.server.admission.in.flight}, {@code http.server.admission.queued} and
+ * {@code http.server.admission.shed} metrics, the last two tagged with the priority class, and the shed
+ * requests also with the reason.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@EnableConfigurationProperties(PriorityAdmissionProperties.class)
+@ConditionalOnProperty(name = "priority-admission.enabled", havingValue = "true", matchIfMissing = true)
+public class PriorityAdmissionFilter extends OncePerRequestFilter {
+
+    private final PriorityAdmissionProperties properties;
+    private final PriorityAdmissionController controller;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<PriorityClass, Map<PriorityAdmissionController.ShedReason, Counter>> shedCounters =
+            new EnumMap<>(PriorityClass.class);
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public PriorityAdmissionFilter(PriorityAdmissionProperties properties, ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.controller = new PriorityAdmissionController(properties,
+                new CpuLoadSampler(properties.getCpuSampleInterval()));
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000));
+        registerMeters();
+    }
+
+    /**
+     * Returns the admission controller of the service.
+     *
+     * @return the admission controller
+     */
+    public PriorityAdmissionController getController() {
+        return controller;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PriorityClass priorityClass = classify(request);
+        PriorityAdmissionController.Admission admission;
+        try {
+            admission = controller.admit(priorityClass);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for admission", e);
+        }
+        if (!admission.isAdmitted()) {
+            shedCounters.get(priorityClass).get(admission.getShedReason()).increment();
+            reject(response, priorityClass, admission.getShedReason());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AdmissionReleasingListener(admission));
+            } else {
+                admission.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the priority class of a request: the one sent in the priority header by a trusted internal caller,
+     * otherwise the one of the first matching route, otherwise the default one.
+     *
+     * @param request the request
+     * @return the priority class of the request
+     */
+    PriorityClass classify(HttpServletRequest request) {
+        if (StringUtils.hasText(properties.getPriorityHeader()) && isInternalCaller(request)) {
+            String header = request.getHeader(properties.getPriorityHeader());
+            if (StringUtils.hasText(header)) {
+                try {
+                    return PriorityClass.valueOf(header.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    log.debug("Ignored unknown priority class {}.", header);
+                }
+            }
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (PriorityAdmissionProperties.Route route : properties.getRoutes()) {
+            if ((route.getMethods().isEmpty() || route.getMethods().stream().anyMatch(request.getMethod()::equalsIgnoreCase))
+                    && route.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+                return route.getPriority();
+            }
+        }
+        return properties.getDefaultPriority();
+    }
+
+    /**
+     * Tells whether a request carries the internal token, compared in constant time.
+     */
+    private boolean isInternalCaller(HttpServletRequest request) {
+        if (!StringUtils.hasText(properties.getInternalToken())) {
+            return false;
+        }
+        String token = request.getHeader(properties.getInternalTokenHeader());
+        return token != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                properties.getInternalToken().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void reject(HttpServletResponse response, PriorityClass priorityClass,
+                        PriorityAdmissionController.ShedReason shedReason) throws IOException {
+        log.debug("Shed a {} request: {}.", priorityClass, shedReason);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("The service is overloaded, retry later.", HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private void registerMeters() {
+        Gauge.builder("http.server.admission.in.flight", controller, PriorityAdmissionController::getInFlight)
+                .description("Requests holding an admission slot")
+                .register(meterRegistry);
+        for (PriorityClass priorityClass : PriorityClass.values()) {
+            String priority = priorityClass.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("http.server.admission.queued", controller, c -> c.getQueued(priorityClass))
+                    .description("Requests of the priority class waiting for an admission slot")
+                    .tag("priority", priority)
+                    .register(meterRegistry);
+            Map<PriorityAdmissionController.ShedReason, Counter> counters =
+                    new EnumMap<>(PriorityAdmissionController.ShedReason.class);
+            for (PriorityAdmissionController.ShedReason shedReason : PriorityAdmissionController.ShedReason.values()) {
+                counters.put(shedReason, Counter.builder("http.server.admission.shed")
+                        .description("Requests of the priority class shed by the admission control")
+                        .tag("priority", priority)
+                        .tag("reason", shedReason.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry));
+            }
+            shedCounters.put(priorityClass, counters);
+        }
+    }
+
+    /**
+     * Releases the admission of an asynchronous request once its response is complete.
+     */
+    private record AdmissionReleasingListener(PriorityAdmissionController.Admission admission)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            admission.release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
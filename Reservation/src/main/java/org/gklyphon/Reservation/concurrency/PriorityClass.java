@@ -0,0 +1,27 @@
+package org.gklyphon.Reservation.concurrency;
+
+/**
+ * Priority classes of the requests admitted by the {@link PriorityAdmissionController}, from the highest
+ * to the lowest.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum PriorityClass {
+
+    /**
+     * Revenue-critical requests, such as booking a reservation. Never shed under pressure.
+     */
+    CRITICAL,
+
+    /**
+     * Regular requests.
+     */
+    STANDARD,
+
+    /**
+     * Requests that can be retried later at no cost, such as browsing. Shed first under pressure.
+     */
+    SHEDDABLE
+}
@@ -0,0 +1,82 @@
+package org.gklyphon.Reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Reports the service out of service while a Hikari pool is saturated, so that readiness checks take it out of
+ * the load balancer before requests start timing out on connection acquisition.
+ *
+ * <p>A pool is saturated when every connection is in use and at least {@code pendingThreshold} threads wait for
+ * one, at every check for at least {@code sustain}. Each of them then waits at least a full connection usage, and
+ * the last ones run into the connection timeout when the backlog does not drain. A short burst that fills the pool
+ * is not reported: the instances of a fleet see the same bursts, and reporting them would take every instance out
+ * of the load balancer at once.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    private final Map<String, HikariDataSource> dataSources;
+    private final int pendingThreshold;
+    private final long sustainNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> overThresholdSince = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an indicator.
+     *
+     * @param dataSources the pools, by bean name
+     * @param pendingThreshold the number of waiting threads from which a full pool is over its threshold
+     * @param sustain how long a pool must stay over its threshold to be saturated
+     */
+    public ConnectionPoolHealthIndicator(Map<String, HikariDataSource> dataSources, int pendingThreshold,
+                                         Duration sustain) {
+        this(dataSources, pendingThreshold, sustain, System::nanoTime);
+    }
+
+    ConnectionPoolHealthIndicator(Map<String, HikariDataSource> dataSources, int pendingThreshold, Duration sustain,
+                                  LongSupplier nanoClock) {
+        this.dataSources = dataSources;
+        this.pendingThreshold = pendingThreshold;
+        this.sustainNanos = sustain.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Health health() {
+        boolean saturated = false;
+        long now = nanoClock.getAsLong();
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (Map.Entry<String, HikariDataSource> entry : dataSources.entrySet()) {
+            HikariPoolMXBean pool = entry.getValue().getHikariPoolMXBean();
+            if (pool == null) {
+                continue;
+            }
+            int max = entry.getValue().getMaximumPoolSize();
+            int active = pool.getActiveConnections();
+            int pending = pool.getThreadsAwaitingConnection();
+            boolean poolSaturated = false;
+            if (active >= max && pending >= pendingThreshold) {
+                poolSaturated = now - overThresholdSince.computeIfAbsent(entry.getKey(), name -> now) >= sustainNanos;
+            } else {
+                overThresholdSince.remove(entry.getKey());
+            }
+            saturated |= poolSaturated;
+            details.put(entry.getKey(), Map.of("active", active, "idle", pool.getIdleConnections(),
+                    "pending", pending, "max", max, "saturated", poolSaturated));
+        }
+        return Health.status(saturated ? Status.OUT_OF_SERVICE : Status.UP).withDetails(details).build();
+    }
+}
@@ -0,0 +1,62 @@
+package org.gklyphon.Reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Sizes every Hikari pool from the number of cores and the expected share of time a connection spends waiting on
+ * I/O, before the pool starts.
+ *
+ * <p>A request holding a connection alternates between using a core and waiting on the database. With
+ * {@code cores} cores and an I/O wait of {@code ioWaitRatio} times the compute time, about
+ * {@code cores * (1 + ioWaitRatio)} connections keep every core busy; more only queue up inside MySQL. The pool is
+ * fixed at that size, capped by {@code maxSize}, so that no connection is opened under load.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private final int poolSize;
+
+    /**
+     * Creates a sizer.
+     *
+     * @param cores the number of cores available to the service
+     * @param ioWaitRatio the expected time a connection waits on I/O, relative to the time it computes
+     * @param maxSize the largest pool size
+     */
+    public HikariPoolSizer(int cores, double ioWaitRatio, int maxSize) {
+        this.poolSize = poolSize(cores, ioWaitRatio, maxSize);
+    }
+
+    /**
+     * Computes a pool size.
+     *
+     * @param cores the number of cores available to the service
+     * @param ioWaitRatio the expected time a connection waits on I/O, relative to the time it computes
+     * @param maxSize the largest pool size
+     * @return the pool size, between 2 and {@code maxSize}
+     */
+    public static int poolSize(int cores, double ioWaitRatio, int maxSize) {
+        int size = (int) Math.ceil(cores * (1 + Math.max(0, ioWaitRatio)));
+        return Math.max(2, Math.min(maxSize, size));
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            log.info("Sizing the {} connection pool to {} connections.", beanName, poolSize);
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+        }
+        return bean;
+    }
+}
@@ -2,6 +2,7 @@ package org.gklyphon.Reservation.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
@@ -17,13 +18,18 @@ public class SecurityConfig {
 
     private final String[] PUBLIC_ENDPOINTS = {"/reservations","/reservations/{id}",
             "/reservations/create","/reservations/update/{id}", "/reservations/delete/{id}",
-            "/reservations/by-start-date","/reservations/by-end-date", "/reservations/by-user/{user_id}"};
+            "/reservations/by-start-date","/reservations/by-end-date", "/reservations/by-user/{user_id}",
+            "/reservations/by-room/{room_id}", "/reservations/overlapping", "/reservations/arrivals",
+            "/reservations/departures", "/reservations/export"};
+
+    private final String[] ACTUATOR_ENDPOINTS = {"/actuator/health/**"};
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(
                         (auths) -> auths
-                                .requestMatchers(PUBLIC_ENDPOINTS).permitAll())
+                                .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                                .requestMatchers(HttpMethod.GET, ACTUATOR_ENDPOINTS).permitAll())
                 .cors( (cors) -> cors.configurationSource(corsConfigurationSource()) )
                 .csrf(AbstractHttpConfigurer::disable);
         return http.build();
@@ -1,10 +1,15 @@
 package org.gklyphon.Reservation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.gklyphon.Reservation.batch.ReservationGroupCommitWriter;
 import org.gklyphon.Reservation.models.dtos.ReservationDTO;
 import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.service.IIdempotencyService;
 import org.gklyphon.Reservation.service.IReservationService;
+import org.gklyphon.Reservation.service.IRoomValidationService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,11 +17,14 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * REST Controller for managing {@link Reservation} entities.
@@ -39,21 +47,50 @@ public class ReservationController {
 
     private final IReservationService service;
     private final PagedResourcesAssembler<Reservation> pagedResourcesAssembler;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ReservationGroupCommitWriter> groupCommitWriter;
+    private final IIdempotencyService idempotencyService;
+    private final IRoomValidationService roomValidationService;
 
     /**
-     * Retrieves all reservations.
+     * Retrieves all reservations with pagination.
      *
-     * @return a list of all reservations or a 204 No Content status if none are found.
+     * @param page the page number (default is 0)
+     * @param size the number of records per page (default is 10)
+     * @return a paginated list of reservations
      */
     @GetMapping
-    public ResponseEntity<?> getAll() {
-        List<Reservation> reservations = service.findAll();
-        if (reservations.isEmpty()) {
-            return ResponseEntity.noContent().build();
-        }
-        return ResponseEntity.ok(service.findAll());
+    public ResponseEntity<?> getAll(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(
+                handleEntityModels(service.findAllPageable(pageable), pageable));
     }
 
+    /**
+     * Exports every reservation as newline-delimited JSON.
+     * <p>
+     * Reservations are written to the response as they are read from the database,
+     * so the export does not hold the whole table in memory.
+     * </p>
+     *
+     * @return a streamed body with one JSON reservation per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> service.exportAll(reservation -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(reservation));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 
     /**
      * Retrieves a reservation by its ID.
@@ -85,6 +122,26 @@ public class ReservationController {
                 handleEntityModels(service.findByUserId(userId, pageable), pageable));
     }
 
+    /**
+     * Retrieves the reservations of a room whose stay overlaps a date range, with keyset pagination.
+     *
+     * @param roomId the ID of the room whose reservations are retrieved
+     * @param from the first day of the range (optional)
+     * @param to the last day of the range (optional)
+     * @param after the {@code next} cursor of the previous page (optional)
+     * @param size the number of records per page (default is 20)
+     * @return a keyset page of reservations of the specified room
+     */
+    @GetMapping("/by-room/{room_id}")
+    public ResponseEntity<?> getByRoomId(
+            @PathVariable(name = "room_id") Long roomId,
+            @RequestParam(name = "from", required = false) LocalDate from,
+            @RequestParam(name = "to", required = false) LocalDate to,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.findByRoomId(roomId, from, to, after, size));
+    }
+
     /**
      * Retrieves reservations by start date with pagination.
      *
@@ -118,24 +175,106 @@ public class ReservationController {
             @RequestParam(name = "size", defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
         return ResponseEntity.ok(
-                handleEntityModels(service.findByStartDate(endDate, pageable), pageable));
+                handleEntityModels(service.findByEndDate(endDate, pageable), pageable));
+    }
+
+    /**
+     * Retrieves the reservations whose stay overlaps a date range, with keyset pagination.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the {@code next} cursor of the previous page (optional)
+     * @param size the number of records per page (default is 20)
+     * @return a keyset page of reservations overlapping the range
+     */
+    @GetMapping("/overlapping")
+    public ResponseEntity<?> getOverlapping(
+            @RequestParam(name = "from") LocalDate from,
+            @RequestParam(name = "to") LocalDate to,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.findOverlapping(from, to, after, size));
+    }
+
+    /**
+     * Retrieves the reservations that start within a date range, with keyset pagination.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the {@code next} cursor of the previous page (optional)
+     * @param size the number of records per page (default is 20)
+     * @return a keyset page of reservations starting within the range
+     */
+    @GetMapping("/arrivals")
+    public ResponseEntity<?> getArrivals(
+            @RequestParam(name = "from") LocalDate from,
+            @RequestParam(name = "to") LocalDate to,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.findArrivals(from, to, after, size));
+    }
+
+    /**
+     * Retrieves the reservations that end within a date range, with keyset pagination.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the {@code next} cursor of the previous page (optional)
+     * @param size the number of records per page (default is 20)
+     * @return a keyset page of reservations ending within the range
+     */
+    @GetMapping("/departures")
+    public ResponseEntity<?> getDepartures(
+            @RequestParam(name = "from") LocalDate from,
+            @RequestParam(name = "to") LocalDate to,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.findDepartures(from, to, after, size));
     }
 
     /**
      * Creates a new reservation.
+     * <p>
+     * The rooms of the reservation are first checked against the Room service: unknown rooms are rejected with a
+     * 400 status and rooms that are not available with a 409 status. The {@code X-Room-Data-Stale} response header
+     * tells whether the Room service was unavailable and the rooms were checked against their last known state.
+     * </p>
+     * <p>
+     * When group commit is enabled, the reservation is saved together with other concurrent reservations
+     * by the {@link ReservationGroupCommitWriter}; otherwise it is saved in its own transaction.
+     * </p>
+     * <p>
+     * When an {@code Idempotency-Key} header is sent, retries with the same key and body replay the first
+     * response instead of creating the reservation again.
+     * </p>
      *
+     * @param idempotencyKey the optional idempotency key of the request
      * @param reservationDTO the data transfer object containing reservation details
      * @return the created reservation with a 201 Created status
      */
     @PostMapping("/create")
     public ResponseEntity<?> saveReservation(
+            @RequestHeader(name = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ReservationDTO reservationDTO) {
-        Reservation reservation = service.save(reservationDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+        if (idempotencyKey == null) {
+            return createReservation(reservationDTO);
+        }
+        return idempotencyService.execute(idempotencyKey, reservationDTO, () -> createReservation(reservationDTO));
+    }
+
+    private ResponseEntity<?> createReservation(ReservationDTO reservationDTO) {
+        boolean staleRooms = roomValidationService.validateRooms(reservationDTO);
+        ReservationGroupCommitWriter writer = groupCommitWriter.getIfAvailable();
+        Reservation reservation = writer != null ? writer.write(reservationDTO) : service.save(reservationDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IRoomValidationService.ROOM_DATA_STALE_HEADER, String.valueOf(staleRooms))
+                .body(reservation);
     }
 
     /**
-     * Updates an existing reservation by ID.
+     * Updates an existing reservation by ID, after checking its rooms against the Room service.
+     * The {@code X-Room-Data-Stale} response header tells whether the rooms were checked against their last known
+     * state.
      *
      * @param id the ID of the reservation to update
      * @param reservationDTO the data transfer object containing updated reservation details
@@ -145,8 +284,11 @@ public class ReservationController {
     public ResponseEntity<?> updateReservation(
             @PathVariable Long id,
             @Valid @RequestBody ReservationDTO reservationDTO) {
+        boolean staleRooms = roomValidationService.validateRooms(reservationDTO);
         Reservation reservation = service.update(id, reservationDTO);
-        return ResponseEntity.ok(reservation);
+        return ResponseEntity.ok()
+                .header(IRoomValidationService.ROOM_DATA_STALE_HEADER, String.valueOf(staleRooms))
+                .body(reservation);
     }
 
     /**
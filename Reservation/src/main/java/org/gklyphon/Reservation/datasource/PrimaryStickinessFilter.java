@@ -0,0 +1,104 @@
+package org.gklyphon.Reservation.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Servlet filter sending the reads of a client to the primary for a while after it wrote, so that it reads its
+ * own writes despite the replication lag of the replicas.
+ *
+ * <p>A request with another method than {@code GET}, {@code HEAD} or {@code OPTIONS} that completes without an
+ * error status counts as a write of its client. Clients are identified by the client header, or else by their IP
+ * address. Clients whose window is over are forgotten on their next request or by {@link #evictExpired()}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final String clientHeader;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a filter.
+     *
+     * @param clientHeader the request header identifying a client
+     * @param window how long the reads of a client go to the primary after it wrote
+     * @param nanoClock the source of the current time, in nanoseconds
+     */
+    public PrimaryStickinessFilter(String clientHeader, Duration window, LongSupplier nanoClock) {
+        this.clientHeader = clientHeader;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Forgets the clients whose window is over.
+     */
+    @Scheduled(fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+
+    public int getTrackedClients() {
+        return lastWrites.size();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = client(request);
+        boolean sticky = isWithinWindow(client);
+        if (sticky) {
+            ReplicaRoutingContext.forcePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (sticky) {
+                ReplicaRoutingContext.clear();
+            }
+        }
+        if (!READ_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+            lastWrites.put(client, nanoClock.getAsLong());
+        }
+    }
+
+    private boolean isWithinWindow(String client) {
+        Long lastWrite = lastWrites.get(client);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(client, lastWrite);
+        return false;
+    }
+
+    private String client(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        return StringUtils.hasText(client) ? "id:" + client : "ip:" + request.getRemoteAddr();
+    }
+}
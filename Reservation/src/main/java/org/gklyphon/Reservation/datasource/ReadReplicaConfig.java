@@ -0,0 +1,91 @@
+package org.gklyphon.Reservation.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to the read replicas when {@code read-replicas.enabled} is set.
+ *
+ * <p>Replaces the auto-configured data source with a {@link LazyConnectionDataSourceProxy} over a
+ * {@link ReplicaRoutingDataSource}. The primary pool is still configured by the {@code spring.datasource}
+ * properties, and each replica pool copies its settings with the URL, credentials and driver of the replica.
+ * Replica pools wait at most {@code read-replicas.connection-timeout} for a connection, and do not fail the startup
+ * when their replica is down, so that reads fall back to the primary instead.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(name = "read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadReplicaProperties properties) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReadReplicaProperties.Node node = properties.getNodes().get(i);
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(node.getUrl());
+            config.setDriverClassName(driverClassName(node));
+            config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            config.setInitializationFailTimeout(-1);
+            if (node.getUsername() != null) {
+                config.setUsername(node.getUsername());
+            }
+            if (node.getPassword() != null) {
+                config.setPassword(node.getPassword());
+            }
+            replicas.add(ReplicaRoutingDataSource.Replica.of(config.getPoolName(), new HikariDataSource(config)));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getSelection(),
+                properties.getRetryInterval(), System::nanoTime);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public PrimaryStickinessFilter primaryStickinessFilter(ReadReplicaProperties properties) {
+        return new PrimaryStickinessFilter(properties.getClientHeader(), properties.getStickyPrimaryWindow(),
+                System::nanoTime);
+    }
+
+    private static String driverClassName(ReadReplicaProperties.Node node) {
+        if (node.getDriverClassName() != null) {
+            return node.getDriverClassName();
+        }
+        String driverClassName = DatabaseDriver.fromJdbcUrl(node.getUrl()).getDriverClassName();
+        if (driverClassName == null) {
+            throw new IllegalStateException("Cannot derive the JDBC driver of replica " + node.getUrl()
+                    + ", set its driver-class-name");
+        }
+        return driverClassName;
+    }
+}
@@ -0,0 +1,187 @@
+package org.gklyphon.Reservation.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Data source giving read-only transactions a connection to a replica, and every other connection from the primary.
+ *
+ * <p>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so that the
+ * connection is only fetched once the transaction is marked read-only. The primary is also used for the
+ * read-only transactions of threads for which {@link ReplicaRoutingContext#forcePrimary()} was called, and when no
+ * replica gives a connection. A replica failing to give a connection is skipped for the retry interval.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadReplicaProperties.Selection selection;
+    private final long retryIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Creates a routing data source.
+     *
+     * @param primary the primary data source
+     * @param replicas the replicas
+     * @param selection how a replica is chosen
+     * @param retryInterval how long a failing replica is skipped
+     * @param nanoClock the source of the current time, in nanoseconds
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas,
+                                    ReadReplicaProperties.Selection selection, Duration retryInterval,
+                                    LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(dataSource -> dataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Closes the pools of the replicas. The primary pool is closed by its own bean.
+     */
+    @Override
+    public void close() {
+        replicas.forEach(replica -> {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close the pool of replica {}: {}", replica.name(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    private Connection route(ConnectionSource connectionSource) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPrimaryForced()) {
+            return connectionSource.connect(primary);
+        }
+        long now = nanoClock.getAsLong();
+        for (Replica replica : candidates(now)) {
+            try {
+                return connectionSource.connect(replica.dataSource());
+            } catch (SQLException e) {
+                replica.downUntil = now + retryIntervalNanos;
+                log.warn("Replica {} failed to give a connection, reading from the primary: {}",
+                        replica.name(), e.getMessage());
+            }
+        }
+        return connectionSource.connect(primary);
+    }
+
+    private List<Replica> candidates(long now) {
+        List<Replica> available = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.downUntil - now <= 0) {
+                available.add(replica);
+            }
+        }
+        if (available.size() < 2) {
+            return available;
+        }
+        if (selection == ReadReplicaProperties.Selection.LEAST_CONNECTIONS) {
+            available.sort(Comparator.comparingInt(replica -> replica.activeConnections().getAsInt()));
+            return available;
+        }
+        int first = Math.floorMod(nextReplica.getAndIncrement(), available.size());
+        List<Replica> rotated = new ArrayList<>(available.subList(first, available.size()));
+        rotated.addAll(available.subList(0, first));
+        return rotated;
+    }
+
+    /**
+     * Gets a connection from a data source.
+     */
+    @FunctionalInterface
+    private interface ConnectionSource {
+
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * A replica, with the number of its connections in use.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final IntSupplier activeConnections;
+        private volatile long downUntil;
+
+        /**
+         * Creates a replica.
+         *
+         * @param name the name of the replica, used in logs
+         * @param dataSource the data source of the replica
+         * @param activeConnections the number of connections of the replica in use
+         */
+        public Replica(String name, DataSource dataSource, IntSupplier activeConnections) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.activeConnections = activeConnections;
+        }
+
+        /**
+         * Creates a replica backed by a Hikari pool, whose connections in use are read from the pool.
+         *
+         * @param name the name of the replica, used in logs
+         * @param dataSource the pool of the replica
+         * @return the replica
+         */
+        public static Replica of(String name, HikariDataSource dataSource) {
+            return new Replica(name, dataSource, () -> {
+                HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            });
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public IntSupplier activeConnections() {
+            return activeConnections;
+        }
+    }
+}
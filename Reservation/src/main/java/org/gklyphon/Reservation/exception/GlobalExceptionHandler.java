@@ -2,13 +2,20 @@ package org.gklyphon.Reservation.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.gklyphon.Reservation.exception.exception.ElementNotFoundException;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyInProgressException;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyMismatchException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.exception.exception.RoomNotAvailableException;
+import org.gklyphon.Reservation.exception.exception.RoomServiceUnavailableException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -18,8 +25,9 @@ import java.util.Map;
  * Global exception handler to manage exceptions in the entire application.
  *
  * <p>This class handles different types of exceptions globally, providing custom error responses
- * for {@link ElementNotFoundException}, {@link MethodArgumentNotValidException}, {@link ServiceException},
- * and a generic {@link Exception}.</p>
+ * for {@link ElementNotFoundException}, {@link InvalidRequestException}, reused idempotency keys,
+ * missing or malformed request parameters,
+ * {@link MethodArgumentNotValidException}, {@link ServiceException}, and a generic {@link Exception}.</p>
  *
  * <p>Each exception is caught and returned with a custom {@link ErrorResponse} that includes a message and
  * an appropriate HTTP status code.</p>
@@ -45,6 +53,80 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles {@link InvalidRequestException} and returns a custom error response with a 400 status code.
+     *
+     * @param ex the {@link InvalidRequestException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles {@link IdempotencyKeyMismatchException} and returns a custom error response with a 422 status code.
+     *
+     * @param ex the {@link IdempotencyKeyMismatchException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 422 status code
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+        return ResponseEntity.unprocessableEntity().body(errorResponse);
+    }
+
+    /**
+     * Handles {@link IdempotencyKeyInProgressException} and returns a custom error response with a 409 status code.
+     *
+     * @param ex the {@link IdempotencyKeyInProgressException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 409 status code
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link RoomNotAvailableException} and returns a custom error response with a 409 status code.
+     *
+     * @param ex the {@link RoomNotAvailableException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 409 status code
+     */
+    @ExceptionHandler(RoomNotAvailableException.class)
+    public ResponseEntity<ErrorResponse> handleRoomNotAvailable(RoomNotAvailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link RoomServiceUnavailableException} and returns a custom error response with a 503 status code.
+     *
+     * @param ex the {@link RoomServiceUnavailableException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 503 status code
+     */
+    @ExceptionHandler(RoomServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleRoomServiceUnavailable(RoomServiceUnavailableException ex) {
+        log.warn("{}: {}", ex.getMessage(), ex.getCause() != null ? ex.getCause().getMessage() : null);
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * Handles missing or malformed request parameters and returns a custom error response with a 400 status code.
+     *
+     * @param ex the {@link MissingServletRequestParameterException} or {@link MethodArgumentTypeMismatchException}
+     *           to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidParameter(Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handles {@link MethodArgumentNotValidException} (validation errors) and returns a map of field errors
      * with a 400 status code.
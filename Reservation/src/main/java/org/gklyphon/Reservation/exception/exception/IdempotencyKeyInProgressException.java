@@ -0,0 +1,21 @@
+package org.gklyphon.Reservation.exception.exception;
+
+/**
+ * Exception thrown when a request is sent with an {@code Idempotency-Key} whose first request is still
+ * being processed and its response could not be awaited.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link IdempotencyKeyInProgressException} with the specified detail message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     */
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.gklyphon.Reservation.exception.exception;
+
+/**
+ * Exception thrown when a request is syntactically valid but its parameters cannot be processed,
+ * for example an inverted date range or a page size out of bounds.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link InvalidRequestException} with the specified detail message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
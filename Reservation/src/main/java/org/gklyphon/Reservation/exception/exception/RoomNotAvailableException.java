@@ -0,0 +1,20 @@
+package org.gklyphon.Reservation.exception.exception;
+
+/**
+ * Exception thrown when a reservation refers to a room that cannot be booked.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class RoomNotAvailableException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link RoomNotAvailableException} with the specified detail message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     */
+    public RoomNotAvailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.gklyphon.Reservation.exception.exception;
+
+/**
+ * Exception thrown when the rooms of a reservation cannot be validated because the Room service did not answer.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class RoomServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link RoomServiceUnavailableException} with the specified detail message and cause.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     * @param cause the cause (which is saved for later retrieval by the {@link Throwable#getCause()} method)
+     */
+    public RoomServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,30 @@
+package org.gklyphon.Reservation.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.Reservation.service.IIdempotencyService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background purge of the idempotency keys older than their time-to-live.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyPurger {
+
+    private final IIdempotencyService idempotencyService;
+
+    /**
+     * Deletes the expired idempotency keys.
+     */
+    @Scheduled(cron = "${idempotency.purge.cron:0 30 3 * * *}")
+    public void purge() {
+        log.info("Purged {} expired idempotency keys.", idempotencyService.purgeExpired());
+    }
+}
@@ -0,0 +1,40 @@
+package org.gklyphon.Reservation.models.dtos;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one page of a keyset-paginated result.
+ * <p>
+ * Instead of an offset, the client passes the {@code next} cursor of the previous page to get the following
+ * one, so the database seeks directly to the first row of the page no matter how deep the client has paged.
+ * </p>
+ *
+ * @param <T> the type of the elements of the page
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetPageDTO<T> {
+
+    /**
+     * The elements of the page, in ascending cursor order.
+     */
+    private List<T> content;
+
+    /**
+     * The maximum number of elements requested for the page.
+     */
+    private int size;
+
+    /**
+     * The cursor to pass to get the next page, or {@code null} if this is the last page.
+     */
+    private Long next;
+}
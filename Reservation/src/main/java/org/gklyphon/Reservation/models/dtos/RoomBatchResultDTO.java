@@ -0,0 +1,31 @@
+package org.gklyphon.Reservation.models.dtos;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) holding the response of a batch room lookup on the Room service.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomBatchResultDTO {
+
+    /**
+     * The rooms found, keyed by ID.
+     */
+    private Map<Long, RoomSummaryDTO> rooms;
+
+    /**
+     * The requested IDs that match no room.
+     */
+    private List<Long> missingIds;
+}
@@ -4,6 +4,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -21,6 +22,7 @@ import lombok.Setter;
  *   <li>{@code @Getter} - Generates getter methods for all fields.</li>
  *   <li>{@code @Setter} - Generates setter methods for all fields.</li>
  *   <li>{@code @AllArgsConstructor} - Generates a constructor with all fields.</li>
+ *   <li>{@code @NoArgsConstructor} - Generates a no-argument constructor, required to deserialize request bodies.</li>
  *   <li>{@code @NotNull} - Ensures that the room ID is not null when the object is validated.</li>
  * </ul>
  *
@@ -32,6 +34,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @AllArgsConstructor
+@NoArgsConstructor
 public class RoomReservationDTO {
 
     /**
@@ -0,0 +1,29 @@
+package org.gklyphon.Reservation.models.dtos;
+
+import lombok.*;
+
+/**
+ * Data Transfer Object (DTO) holding the fields of a room of the Room service that reservations depend on.
+ * Other fields sent by the Room service are ignored.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomSummaryDTO {
+
+    /**
+     * Unique identifier of the room.
+     */
+    private Long id;
+
+    /**
+     * The state of the room, such as {@code AVAILABLE} or {@code NOT_AVAILABLE}.
+     */
+    private String roomState;
+}
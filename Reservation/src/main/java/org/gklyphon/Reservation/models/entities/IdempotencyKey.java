@@ -0,0 +1,102 @@
+package org.gklyphon.Reservation.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an {@code Idempotency-Key} sent with a create request, together with the response that was returned
+ * for it, so that retries of the same request replay that response instead of creating the entity again.
+ *
+ * <p>A key is claimed, without a response, before the request is processed, and completed with the status and
+ * body of the response afterwards. Keys are purged once their time-to-live is over.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+public class IdempotencyKey implements Persistable<String> {
+
+    /**
+     * The key sent by the client in the {@code Idempotency-Key} header.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    /**
+     * The SHA-256 hash of the request body, used to reject a key reused for a different request.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * The HTTP status of the response, or {@code null} while the request is being processed.
+     */
+    private Integer responseStatus;
+
+    /**
+     * The JSON body of the response, or {@code null} while the request is being processed.
+     */
+    @Lob
+    private String responseBody;
+
+    /**
+     * The headers of the response as a JSON object mapping each name to its values, such as {@code Location},
+     * or {@code null} if the response had none.
+     */
+    @Lob
+    private String responseHeaders;
+
+    /**
+     * The date and time when the key was claimed.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Whether the key has not been persisted yet. Keys are assigned by the client, so this makes
+     * {@code save} insert a new key instead of merging it into an existing one.
+     */
+    @Transient
+    @Builder.Default
+    private boolean newKey = true;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newKey;
+    }
+
+    /**
+     * Marks the key as persisted once it has been inserted or loaded.
+     */
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        newKey = false;
+    }
+
+    /**
+     * Returns whether the response for this key has been recorded.
+     *
+     * @return {@code true} if the request has completed
+     */
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+}
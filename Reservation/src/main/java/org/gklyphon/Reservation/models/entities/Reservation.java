@@ -8,8 +8,8 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Entity representing a reservation. This class extends {@link Auditable}
@@ -28,7 +28,13 @@ import java.util.List;
 @Setter
 @AllArgsConstructor
 @Entity
-@Table(name = "reservations")
+@Table(
+        name = "reservations",
+        indexes = {
+                @Index(name = "idx_reservations_dates", columnList = "start_date, end_date"),
+                @Index(name = "idx_reservations_end_date", columnList = "end_date")
+        }
+)
 public class Reservation extends Auditable {
 
     /**
@@ -55,31 +61,49 @@ public class Reservation extends Auditable {
     private LocalDate endDate;
 
     /**
-     * List of users associated with this reservation.
-     * Managed as a one-to-many relationship.
+     * The version of the reservation, incremented on every change and used for optimistic locking.
+     * Also identifies the state of the reservation carried by its outbox events.
      */
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "user_id")
-    private List<UserReservation> userReservations;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     /**
-     * List of rooms associated with this reservation.
-     * Managed as a one-to-many relationship.
+     * Users associated with this reservation.
+     * <p>
+     * Stored as an element collection keyed by ({@code reservation_id}, {@code user_id}), so Hibernate inserts or
+     * deletes only the rows that changed.
+     * </p>
      */
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "room_id")
-    private List<RoomReservation> roomReservations;
+    @ElementCollection
+    @CollectionTable(name = "reservation_users", joinColumns = @JoinColumn(name = "reservation_id"))
+    private Set<UserReservation> userReservations;
 
     /**
-     * Default constructor initializing the lists for user and room reservations.
+     * Rooms associated with this reservation.
+     * <p>
+     * Stored as an element collection keyed by ({@code reservation_id}, {@code room_id}), with an index on
+     * {@code room_id} for looking up the reservations of a room.
+     * </p>
+     */
+    @ElementCollection
+    @CollectionTable(
+            name = "reservation_rooms",
+            joinColumns = @JoinColumn(name = "reservation_id"),
+            indexes = @Index(name = "idx_reservation_rooms_room_id", columnList = "room_id")
+    )
+    private Set<RoomReservation> roomReservations;
+
+    /**
+     * Default constructor initializing the sets for user and room reservations.
      */
     public Reservation() {
-        this.userReservations = new ArrayList<>();
-        this.roomReservations = new ArrayList<>();
+        this.userReservations = new LinkedHashSet<>();
+        this.roomReservations = new LinkedHashSet<>();
     }
 
     /**
-     * Adds a {@link UserReservation} to the list of user reservations.
+     * Adds a {@link UserReservation} to the set of user reservations.
      *
      * @param userReservation The user reservation to be added.
      */
@@ -88,7 +112,7 @@ public class Reservation extends Auditable {
     }
 
     /**
-     * Removes a {@link UserReservation} from the list of user reservations.
+     * Removes a {@link UserReservation} from the set of user reservations.
      *
      * @param userReservation The user reservation to be removed.
      */
@@ -97,7 +121,7 @@ public class Reservation extends Auditable {
     }
 
     /**
-     * Adds a {@link RoomReservation} to the list of room reservations.
+     * Adds a {@link RoomReservation} to the set of room reservations.
      *
      * @param roomReservation The room reservation to be added.
      */
@@ -106,7 +130,7 @@ public class Reservation extends Auditable {
     }
 
     /**
-     * Removes a {@link RoomReservation} from the list of room reservations.
+     * Removes a {@link RoomReservation} from the set of room reservations.
      *
      * @param roomReservation The room reservation to be removed.
      */
@@ -1,13 +1,14 @@
 package org.gklyphon.Reservation.models.entities;
 
-import jakarta.persistence.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
 import lombok.*;
 
 /**
- * Entity representing a room reservation. This class extends {@link Auditable}
- * to inherit audit fields for tracking creation and update timestamps.
+ * Value type representing a room booked by a reservation.
  * <p>
- * This entity links a specific room to a reservation, storing the room's unique identifier.
+ * Instances are stored in the {@code reservation_rooms} collection table of {@link Reservation}, whose primary key
+ * is the pair ({@code reservation_id}, {@code room_id}). Two instances are equal when they refer to the same room.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -17,23 +18,16 @@ import lombok.*;
 @Builder
 @Getter
 @Setter
+@EqualsAndHashCode
 @AllArgsConstructor
 @NoArgsConstructor
-@Entity
-@Table(name = "room_reservations")
-public class RoomReservation extends Auditable {
-
-    /**
-     * Unique identifier for the room reservation.
-     */
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+@Embeddable
+public class RoomReservation {
 
     /**
      * The unique identifier of the room associated with this reservation.
      */
-    @Column(name = "room_id")
+    @Column(name = "room_id", nullable = false)
     private Long roomId;
 
 }
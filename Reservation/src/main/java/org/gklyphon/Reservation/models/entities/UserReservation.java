@@ -1,17 +1,14 @@
 package org.gklyphon.Reservation.models.entities;
 
-import jakarta.persistence.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
 import lombok.*;
 
 /**
- * Entity representing a user's reservation. This class extends {@link Auditable}
- * to inherit audit fields, such as creation and update timestamps.
+ * Value type representing a user included in a reservation.
  * <p>
- * This entity links a specific user to a reservation, storing the user's unique identifier.
- * </p>
- *
- * <p>
- * It is part of the {@code user_reservations} table, which maps users to their respective reservations.
+ * Instances are stored in the {@code reservation_users} collection table of {@link Reservation}, whose primary key
+ * is the pair ({@code reservation_id}, {@code user_id}). Two instances are equal when they refer to the same user.
  * </p>
  *
  * @author JFCiscoHuerta
@@ -21,22 +18,15 @@ import lombok.*;
 @Builder
 @Getter
 @Setter
+@EqualsAndHashCode
 @AllArgsConstructor
 @NoArgsConstructor
-@Entity
-@Table(name = "user_reservations")
-public class UserReservation extends Auditable {
-
-    /**
-     * Unique identifier for the user reservation.
-     */
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+@Embeddable
+public class UserReservation {
 
     /**
      * The unique identifier of the user associated with this reservation.
      */
-    @Column(name = "user_id")
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 }
@@ -0,0 +1,26 @@
+package org.gklyphon.Reservation.models.entities.enums;
+
+/**
+ * Enum representing the kind of change recorded by an outbox event.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum ChangeType {
+
+    /**
+     * The entity was created.
+     */
+    CREATED,
+
+    /**
+     * The entity was updated.
+     */
+    UPDATED,
+
+    /**
+     * The entity was deleted.
+     */
+    DELETED
+}
@@ -0,0 +1,33 @@
+package org.gklyphon.Reservation.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.gklyphon.Reservation.models.entities.OutboxEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link OutboxEventSink} publishing each event as a Spring application event,
+ * so in-process components can react with {@code @EventListener} methods taking an {@link OutboxEvent}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Publishes every event to the application event listeners.
+     *
+     * @param events the events, in the order they were recorded
+     */
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(publisher::publishEvent);
+    }
+}
@@ -0,0 +1,26 @@
+package org.gklyphon.Reservation.outbox;
+
+import org.gklyphon.Reservation.models.entities.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the outbox.
+ *
+ * <p>Every sink bean receives each batch of pending events. Sinks are called inside the relay transaction:
+ * if one throws, the batch stays pending and is relayed again, so delivery is at least once and sinks
+ * should tolerate duplicates.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param events the events, in the order they were recorded
+     */
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,49 @@
+package org.gklyphon.Reservation.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.Reservation.service.IOutboxService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background relay of the outbox.
+ *
+ * <p>Periodically drains the pending events batch by batch into the {@link OutboxEventSink}s, and purges the
+ * published events once their retention period is over. Disabled with {@code outbox.relay.enabled=false}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final IOutboxService outboxService;
+
+    /**
+     * Relays pending events until none are left. A failing batch stops the run and is retried on the next one.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:1000}")
+    public void relay() {
+        try {
+            while (outboxService.relayPending() > 0) {
+                log.debug("Relayed a batch of outbox events.");
+            }
+        } catch (Exception e) {
+            log.warn("Outbox relay failed, pending events will be retried: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the published events older than the retention period.
+     */
+    @Scheduled(cron = "${outbox.purge.cron:0 0 3 * * *}")
+    public void purge() {
+        log.info("Purged {} published outbox events.", outboxService.purgePublished());
+    }
+}
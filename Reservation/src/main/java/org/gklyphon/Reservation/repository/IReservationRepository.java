@@ -1,11 +1,20 @@
 package org.gklyphon.Reservation.repository;
 
+import jakarta.persistence.QueryHint;
 import org.gklyphon.Reservation.models.entities.Reservation;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Reservation} entities.
@@ -41,4 +50,120 @@ public interface IReservationRepository extends JpaRepository<Reservation, Long>
      * @return A {@link Page} of {@link Reservation} entities associated with the given user ID.
      */
     Page<Reservation> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Deletes a reservation with a single {@code DELETE} statement, without loading the entity.
+     * Hibernate removes the rows of the user and room collection tables with one extra statement each.
+     *
+     * @param id The ID of the reservation to delete.
+     * @return The number of deleted rows, {@code 0} if the reservation does not exist.
+     */
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.id = :id")
+    int deleteReservationById(Long id);
+
+    /**
+     * Finds the reservations of a room whose stay overlaps the given date range, ordered by ID, starting after
+     * the given ID. Uses the room index of the {@code reservation_rooms} table and the primary key of the
+     * reservations, so each page is a seek rather than an offset scan.
+     *
+     * @param roomId The ID of the room.
+     * @param from The first day of the range, or {@code null} for no lower bound.
+     * @param to The last day of the range, or {@code null} for no upper bound.
+     * @param afterId The ID after which the page starts, or {@code null} for the first page.
+     * @param limit The maximum number of reservations to return.
+     * @return The matching reservations, in ascending ID order.
+     */
+    @Query("""
+            SELECT r FROM Reservation r JOIN r.roomReservations rr
+            WHERE rr.roomId = :roomId
+                AND (:from IS NULL OR r.endDate >= :from)
+                AND (:to IS NULL OR r.startDate <= :to)
+                AND (:afterId IS NULL OR r.id > :afterId)
+            ORDER BY r.id""")
+    List<Reservation> findByRoomId(Long roomId, LocalDate from, LocalDate to, Long afterId, Limit limit);
+
+    /**
+     * Finds the reservations whose stay overlaps the given date range, ordered by ID, starting after the given ID.
+     * A stay overlaps the range when it starts on or before {@code to} and ends on or after {@code from}.
+     *
+     * @param from The first day of the range.
+     * @param to The last day of the range.
+     * @param afterId The ID after which the page starts, or {@code null} for the first page.
+     * @param limit The maximum number of reservations to return.
+     * @return The matching reservations, in ascending ID order.
+     */
+    @Query("""
+            SELECT r FROM Reservation r
+            WHERE r.startDate <= :to AND r.endDate >= :from
+                AND (:afterId IS NULL OR r.id > :afterId)
+            ORDER BY r.id""")
+    List<Reservation> findOverlapping(LocalDate from, LocalDate to, Long afterId, Limit limit);
+
+    /**
+     * Finds the reservations starting within the given date range, ordered by ID, starting after the given ID.
+     *
+     * @param from The first day of the range.
+     * @param to The last day of the range.
+     * @param afterId The ID after which the page starts, or {@code null} for the first page.
+     * @param limit The maximum number of reservations to return.
+     * @return The matching reservations, in ascending ID order.
+     */
+    @Query("""
+            SELECT r FROM Reservation r
+            WHERE r.startDate BETWEEN :from AND :to
+                AND (:afterId IS NULL OR r.id > :afterId)
+            ORDER BY r.id""")
+    List<Reservation> findArrivals(LocalDate from, LocalDate to, Long afterId, Limit limit);
+
+    /**
+     * Finds the reservations ending within the given date range, ordered by ID, starting after the given ID.
+     *
+     * @param from The first day of the range.
+     * @param to The last day of the range.
+     * @param afterId The ID after which the page starts, or {@code null} for the first page.
+     * @param limit The maximum number of reservations to return.
+     * @return The matching reservations, in ascending ID order.
+     */
+    @Query("""
+            SELECT r FROM Reservation r
+            WHERE r.endDate BETWEEN :from AND :to
+                AND (:afterId IS NULL OR r.id > :afterId)
+            ORDER BY r.id""")
+    List<Reservation> findDepartures(LocalDate from, LocalDate to, Long afterId, Limit limit);
+
+    /**
+     * Streams every reservation in ID order.
+     * Rows are read from the database in batches of the JDBC fetch size instead of being loaded all at once,
+     * and the reservations are loaded read-only since they are not meant to be modified.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return A {@link Stream} of all {@link Reservation} entities.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Reservation r ORDER BY r.id")
+    Stream<Reservation> streamAll();
+
+    /**
+     * Loads the users of the reservations with the given IDs with a single query. Reservations already in the
+     * persistence context get their {@code userReservations} initialized.
+     *
+     * @param ids the IDs of the reservations
+     * @return the reservations, with their users
+     */
+    @Query("SELECT DISTINCT r FROM Reservation r LEFT JOIN FETCH r.userReservations WHERE r.id IN :ids")
+    List<Reservation> fetchUserReservations(Collection<Long> ids);
+
+    /**
+     * Loads the rooms of the reservations with the given IDs with a single query. Reservations already in the
+     * persistence context get their {@code roomReservations} initialized.
+     *
+     * @param ids the IDs of the reservations
+     * @return the reservations, with their rooms
+     */
+    @Query("SELECT DISTINCT r FROM Reservation r LEFT JOIN FETCH r.roomReservations WHERE r.id IN :ids")
+    List<Reservation> fetchRoomReservations(Collection<Long> ids);
 }
@@ -0,0 +1,46 @@
+package org.gklyphon.Reservation.service;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for {@code Idempotency-Key} support on create endpoints.
+ *
+ * <p>The first request sent with a key is processed and its response recorded. Retries with the same key and
+ * the same body replay that response without processing the request again, including retries arriving while
+ * the first request is still running.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IIdempotencyService {
+
+    /**
+     * Name of the request header carrying the idempotency key.
+     */
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Name of the response header set on replayed responses.
+     */
+    String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Processes a request at most once per idempotency key.
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the request body, used to detect a key reused for a different request
+     * @param action the processing of the request
+     * @return the response of the action, or the recorded response if the key was already used
+     */
+    ResponseEntity<?> execute(String key, Object request, Supplier<ResponseEntity<?>> action);
+
+    /**
+     * Deletes the keys older than their time-to-live.
+     *
+     * @return the number of deleted keys
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,40 @@
+package org.gklyphon.Reservation.service;
+
+import org.gklyphon.Reservation.models.entities.enums.ChangeType;
+
+/**
+ * Service interface for the transactional outbox.
+ *
+ * <p>Changes are recorded as outbox events in the transaction that performs them, and relayed to the
+ * configured sinks afterwards, so an event is published if and only if its change was committed.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IOutboxService {
+
+    /**
+     * Records a change as a pending outbox event. Must be called inside the transaction making the change.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId the ID of the changed entity
+     * @param aggregateVersion the version of the entity after the change, or {@code null} for deletions
+     * @param changeType the kind of change
+     */
+    void record(String aggregateType, Long aggregateId, Long aggregateVersion, ChangeType changeType);
+
+    /**
+     * Publishes the next batch of pending events to every sink and marks them as published.
+     *
+     * @return the number of published events, {@code 0} when none were pending
+     */
+    int relayPending();
+
+    /**
+     * Deletes the events published before the retention period.
+     *
+     * @return the number of deleted events
+     */
+    int purgePublished();
+}
@@ -1,11 +1,14 @@
 package org.gklyphon.Reservation.service;
 
+import org.gklyphon.Reservation.models.dtos.KeysetPageDTO;
 import org.gklyphon.Reservation.models.dtos.ReservationDTO;
 import org.gklyphon.Reservation.models.entities.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing reservations.
@@ -24,7 +27,13 @@ import java.time.LocalDate;
  *   <li>{@code findByStartDate} - Retrieves a paginated list of reservations starting on a specific date.</li>
  *   <li>{@code findByEndDate} - Retrieves a paginated list of reservations ending on a specific date.</li>
  *   <li>{@code findByUserId} - Retrieves a paginated list of reservations for a specific user ID.</li>
+ *   <li>{@code findByRoomId} - Retrieves a keyset-paginated list of reservations of a room overlapping a date range.</li>
+ *   <li>{@code findOverlapping} - Retrieves a keyset-paginated list of reservations overlapping a date range.</li>
+ *   <li>{@code findArrivals} - Retrieves a keyset-paginated list of reservations starting within a date range.</li>
+ *   <li>{@code findDepartures} - Retrieves a keyset-paginated list of reservations ending within a date range.</li>
+ *   <li>{@code exportAll} - Hands every reservation to a consumer without holding them all in memory.</li>
  *   <li>{@code save} - Saves a new reservation using the provided {@link ReservationDTO} data.</li>
+ *   <li>{@code saveAll} - Saves several new reservations in a single transaction.</li>
  *   <li>{@code update} - Updates an existing reservation based on its ID and provided {@link ReservationDTO} data.</li>
  * </ul>
  *
@@ -75,6 +84,66 @@ public interface IReservationService extends IService<Reservation> {
      */
     Page<Reservation> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * Finds the reservations of a room whose stay overlaps a date range.
+     * <p>
+     * This method retrieves one keyset page of reservations that include the room identified by {@code roomId},
+     * ordered by reservation ID and starting after the {@code after} cursor.
+     * </p>
+     *
+     * @param roomId the room ID to search for
+     * @param from   the first day of the range, or {@code null} for no lower bound
+     * @param to     the last day of the range, or {@code null} for no upper bound
+     * @param after  the cursor returned by the previous page, or {@code null} for the first page
+     * @param size   the maximum number of reservations of the page
+     * @return a keyset page of reservations of the specified room
+     */
+    KeysetPageDTO<Reservation> findByRoomId(Long roomId, LocalDate from, LocalDate to, Long after, int size);
+
+    /**
+     * Finds the reservations whose stay overlaps a date range.
+     *
+     * @param from  the first day of the range
+     * @param to    the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size  the maximum number of reservations of the page
+     * @return a keyset page of reservations overlapping the range
+     */
+    KeysetPageDTO<Reservation> findOverlapping(LocalDate from, LocalDate to, Long after, int size);
+
+    /**
+     * Finds the reservations that start within a date range.
+     *
+     * @param from  the first day of the range
+     * @param to    the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size  the maximum number of reservations of the page
+     * @return a keyset page of reservations starting within the range
+     */
+    KeysetPageDTO<Reservation> findArrivals(LocalDate from, LocalDate to, Long after, int size);
+
+    /**
+     * Finds the reservations that end within a date range.
+     *
+     * @param from  the first day of the range
+     * @param to    the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size  the maximum number of reservations of the page
+     * @return a keyset page of reservations ending within the range
+     */
+    KeysetPageDTO<Reservation> findDepartures(LocalDate from, LocalDate to, Long after, int size);
+
+    /**
+     * Hands every reservation, in ID order, to the given consumer.
+     * <p>
+     * Reservations are streamed from the database and detached in chunks once consumed, so memory use
+     * does not grow with the number of reservations.
+     * </p>
+     *
+     * @param consumer the consumer receiving each reservation
+     */
+    void exportAll(Consumer<Reservation> consumer);
+
     /**
      * Saves a new reservation.
      * <p>
@@ -86,6 +155,17 @@ public interface IReservationService extends IService<Reservation> {
      */
     public Reservation save(ReservationDTO reservationDTO);
 
+    /**
+     * Saves several new reservations.
+     * <p>
+     * All the reservations are saved in a single transaction: either all of them are saved or none is.
+     * </p>
+     *
+     * @param reservationDTOs the reservation data to save
+     * @return the saved reservations, in the same order as the provided data
+     */
+    List<Reservation> saveAll(List<ReservationDTO> reservationDTOs);
+
     /**
      * Updates an existing reservation.
      * <p>
@@ -0,0 +1,35 @@
+package org.gklyphon.Reservation.service;
+
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+
+/**
+ * Service interface checking the rooms of a reservation against the Room service before it is saved.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRoomValidationService {
+
+    /**
+     * Name of the response header set to {@code true} when the rooms were validated against stale cached data.
+     */
+    String ROOM_DATA_STALE_HEADER = "X-Room-Data-Stale";
+
+    /**
+     * Checks that every room of a reservation exists and can be booked.
+     * <p>
+     * When the Room service is unavailable, the rooms may be checked against the last known state of each room
+     * instead.
+     * </p>
+     *
+     * @param reservationDTO the reservation
+     * @return {@code true} if some rooms were checked against their last known state, {@code false} if every room
+     *         was checked against current data
+     * @throws org.gklyphon.Reservation.exception.exception.InvalidRequestException if a room does not exist
+     * @throws org.gklyphon.Reservation.exception.exception.RoomNotAvailableException if a room is not available
+     * @throws org.gklyphon.Reservation.exception.exception.RoomServiceUnavailableException if the Room service
+     *         could not be reached and the last known state of a room is missing or too old
+     */
+    boolean validateRooms(ReservationDTO reservationDTO);
+}
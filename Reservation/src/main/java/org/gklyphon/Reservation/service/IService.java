@@ -1,19 +1,20 @@
 package org.gklyphon.Reservation.service;
 
-import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Generic service interface for basic CRUD operations.
  * <p>
  * This interface defines the contract for basic CRUD operations, which include finding an entity by its ID,
- * retrieving all entities, and deleting an entity by its ID. It is intended to be extended by specific service
+ * retrieving a page of entities, and deleting an entity by its ID. It is intended to be extended by specific service
  * interfaces that handle different types of entities.
  * </p>
  *
  * <p>Methods:</p>
  * <ul>
  *   <li>{@code findById} - Retrieves an entity by its ID.</li>
- *   <li>{@code findAll} - Retrieves all entities.</li>
+ *   <li>{@code findAllPageable} - Retrieves a page of entities.</li>
  *   <li>{@code deleteById} - Deletes an entity by its ID.</li>
  * </ul>
  *
@@ -36,14 +37,15 @@ public interface IService <T>{
     public T findById(Long id);
 
     /**
-     * Finds all entities.
+     * Finds a page of entities.
      * <p>
-     * This method retrieves all entities of type {@code T}.
+     * This method retrieves the entities of type {@code T} in the requested page.
      * </p>
      *
-     * @return a list of all entities
+     * @param pageable pagination details (page number, size, etc.)
+     * @return a {@link Page} of entities
      */
-    public List<T> findAll();
+    public Page<T> findAllPageable(Pageable pageable);
 
     /**
      * Deletes an entity by its ID.
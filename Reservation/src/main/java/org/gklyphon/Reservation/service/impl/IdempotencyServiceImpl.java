@@ -0,0 +1,381 @@
+package org.gklyphon.Reservation.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyInProgressException;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyMismatchException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.models.entities.IdempotencyKey;
+import org.gklyphon.Reservation.repository.IIdempotencyKeyRepository;
+import org.gklyphon.Reservation.service.IIdempotencyService;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link IIdempotencyService} interface.
+ *
+ * <p>Keys are stored through {@link IIdempotencyKeyRepository}, so retries are recognised by every instance.
+ * Completed responses are also kept in a bounded in-memory LRU cache in front of the table, and requests sharing
+ * a key with a request still running on this instance wait for its response instead of querying the table.
+ * A key still being processed by another instance is rejected with {@link IdempotencyKeyInProgressException}.</p>
+ *
+ * <p>Only successful responses are recorded. When the request fails, its key is released so it can be retried.
+ * Once the request has succeeded its key is never released, even if its response cannot be recorded, since a retry
+ * would create the entity a second time: a body that cannot be serialized is recorded as a status without a body,
+ * and a key that could not be completed at all, for instance because the instance stopped, stays claimed. After
+ * {@code idempotency.claim-timeout}, requests with such a key are told that its outcome is unknown.</p>
+ *
+ * <p>A replayed response carries the status, body and headers of the original one, such as {@code Location},
+ * except {@code Content-Type} and {@code Content-Length}, which are set again for the recorded JSON body.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final List<String> UNRECORDED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH);
+    private static final TypeReference<LinkedHashMap<String, List<String>>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    private final IIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration claimTimeout;
+    private final Map<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(
+            IIdempotencyKeyRepository repository,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.wait-timeout:30s}") Duration waitTimeout,
+            @Value("${idempotency.claim-timeout:5m}") Duration claimTimeout,
+            @Value("${idempotency.cache.max-size:10000}") int cacheMaxSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.claimTimeout = claimTimeout;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+    }
+
+    /**
+     * Processes a request at most once per idempotency key.
+     * <p>
+     * A request sharing its key with a request running on this instance waits for that request and replays its
+     * response. Otherwise the recorded response is looked up in the cache, then in the table; if there is none,
+     * the key is claimed in the table, the action is run and its response recorded.
+     * </p>
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the request body, used to detect a key reused for a different request
+     * @param action the processing of the request
+     * @return the response of the action, or the recorded response if the key was already used
+     * @throws InvalidRequestException if the key is blank or too long
+     * @throws IdempotencyKeyMismatchException if the key was used with a different request body
+     * @throws IdempotencyKeyInProgressException if the first request with the key is still running
+     */
+    @Override
+    public ResponseEntity<?> execute(String key, Object request, Supplier<ResponseEntity<?>> action) {
+        validateKey(key);
+        String requestHash = hash(request);
+        CompletableFuture<StoredResponse> own = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return replay(await(running), requestHash);
+        }
+        try {
+            StoredResponse stored = lookup(key);
+            if (stored == null) {
+                stored = claim(key, requestHash);
+            }
+            if (stored != null) {
+                own.complete(stored);
+                return replay(stored, requestHash);
+            }
+            ResponseEntity<?> response = run(key, action);
+            own.complete(complete(key, requestHash, response));
+            return response;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Deletes the keys older than their time-to-live with a single statement.
+     *
+     * @return the number of deleted keys
+     */
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        return repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException(
+                    "The " + IDEMPOTENCY_KEY_HEADER + " header must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+        }
+    }
+
+    /**
+     * Returns the recorded response for the key, from the cache or from the table. Expired keys are deleted
+     * and treated as unused.
+     *
+     * @throws IdempotencyKeyInProgressException if the key is claimed by a request still running on another instance,
+     *         or by a request whose response was never recorded
+     */
+    private StoredResponse lookup(String key) {
+        StoredResponse stored = cache.get(key);
+        if (stored != null && !isExpired(stored.createdAt())) {
+            return stored;
+        }
+        cache.remove(key);
+        IdempotencyKey idempotencyKey = repository.findById(key).orElse(null);
+        if (idempotencyKey == null) {
+            return null;
+        }
+        if (isExpired(idempotencyKey.getCreatedAt())) {
+            repository.delete(idempotencyKey);
+            return null;
+        }
+        if (!idempotencyKey.isCompleted()) {
+            if (idempotencyKey.getCreatedAt().isBefore(LocalDateTime.now().minus(claimTimeout))) {
+                throw new IdempotencyKeyInProgressException("The request with this " + IDEMPOTENCY_KEY_HEADER
+                        + " did not record its response and may have been processed, check before sending it again"
+                        + " with a new key.");
+            }
+            throw new IdempotencyKeyInProgressException(
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed.");
+        }
+        return cacheResponse(idempotencyKey);
+    }
+
+    /**
+     * Claims the key by inserting it without a response. If another instance claimed it first, its recorded
+     * response is returned instead.
+     *
+     * @return {@code null} if the key was claimed, the recorded response otherwise
+     */
+    private StoredResponse claim(String key, String requestHash) {
+        try {
+            repository.saveAndFlush(IdempotencyKey.builder()
+                    .idempotencyKey(key)
+                    .requestHash(requestHash)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            StoredResponse stored = lookup(key);
+            if (stored == null) {
+                throw new IdempotencyKeyInProgressException(
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed.");
+            }
+            return stored;
+        }
+    }
+
+    /**
+     * Runs the action, releasing the claimed key if it fails so that the request can be retried.
+     */
+    private ResponseEntity<?> run(String key, Supplier<ResponseEntity<?>> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Records the response for the claimed key. Unsuccessful responses are not recorded and release the key.
+     * <p>
+     * A successful response is returned to the client even if it cannot be recorded, and its key is not released:
+     * the action has already committed, so running it again would create a duplicate.
+     * </p>
+     *
+     * @return the response to replay to requests waiting on this instance, {@code null} if they may retry
+     */
+    private StoredResponse complete(String key, String requestHash, ResponseEntity<?> response) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(key);
+            return null;
+        }
+        StoredResponse stored = new StoredResponse(requestHash, response.getStatusCode().value(),
+                serialize(key, response.getBody()), recordedHeaders(response.getHeaders()), LocalDateTime.now());
+        try {
+            IdempotencyKey idempotencyKey = repository.findById(key).orElse(null);
+            if (idempotencyKey == null) {
+                log.warn("{} {} was released while in use, its response is not recorded.", IDEMPOTENCY_KEY_HEADER, key);
+                return stored;
+            }
+            idempotencyKey.setResponseStatus(stored.status());
+            idempotencyKey.setResponseBody(stored.body());
+            idempotencyKey.setResponseHeaders(stored.headers().isEmpty() ? null : serialize(key, stored.headers()));
+            return cacheResponse(repository.save(idempotencyKey));
+        } catch (RuntimeException e) {
+            log.warn("Could not record the response for {} {}, it stays claimed until it expires after {}: {}",
+                    IDEMPOTENCY_KEY_HEADER, key, ttl, e.getMessage());
+            return stored;
+        }
+    }
+
+    /**
+     * Serializes a response body to record it, or returns {@code null} so that only the status is recorded.
+     */
+    private String serialize(String key, Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize the response for {} {}, only its status is recorded: {}",
+                    IDEMPOTENCY_KEY_HEADER, key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copies the response headers to record, leaving out those describing the body.
+     */
+    private static HttpHeaders recordedHeaders(HttpHeaders headers) {
+        HttpHeaders recorded = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (UNRECORDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                recorded.addAll(name, values);
+            }
+        });
+        return recorded;
+    }
+
+    /**
+     * Reads the recorded response headers, or returns no headers if there are none or they cannot be read.
+     */
+    private HttpHeaders deserializeHeaders(IdempotencyKey idempotencyKey) {
+        HttpHeaders headers = new HttpHeaders();
+        if (idempotencyKey.getResponseHeaders() == null) {
+            return headers;
+        }
+        try {
+            objectMapper.readValue(idempotencyKey.getResponseHeaders(), HEADERS_TYPE).forEach(headers::addAll);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not read the recorded headers for {} {}, they are not replayed: {}",
+                    IDEMPOTENCY_KEY_HEADER, idempotencyKey.getIdempotencyKey(), e.getMessage());
+        }
+        return headers;
+    }
+
+    private void release(String key) {
+        try {
+            repository.deleteById(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release {} {}, it will expire after {}: {}", IDEMPOTENCY_KEY_HEADER, key, ttl, e.getMessage());
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            StoredResponse stored = running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (stored == null) {
+                throw new IdempotencyKeyInProgressException(
+                        "The request with this " + IDEMPOTENCY_KEY_HEADER + " did not succeed, it can be retried.");
+            }
+            return stored;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServiceException("Unexpected error while processing the request.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for the request.", e);
+        }
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(
+                    "The " + IDEMPOTENCY_KEY_HEADER + " was already used with a different request.");
+        }
+        if (stored.body() == null) {
+            return ResponseEntity.status(stored.status())
+                    .headers(stored.headers())
+                    .header(REPLAYED_HEADER, "true")
+                    .build();
+        }
+        return ResponseEntity.status(stored.status())
+                .headers(stored.headers())
+                .header(REPLAYED_HEADER, "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stored.body());
+    }
+
+    private StoredResponse cacheResponse(IdempotencyKey idempotencyKey) {
+        StoredResponse stored = new StoredResponse(idempotencyKey.getRequestHash(),
+                idempotencyKey.getResponseStatus(), idempotencyKey.getResponseBody(), deserializeHeaders(idempotencyKey),
+                idempotencyKey.getCreatedAt());
+        cache.put(idempotencyKey.getIdempotencyKey(), stored);
+        return stored;
+    }
+
+    private boolean isExpired(LocalDateTime createdAt) {
+        return createdAt.isBefore(LocalDateTime.now().minus(ttl));
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsString(request)
+                    .getBytes(StandardCharsets.UTF_8)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ServiceException("Unexpected error while hashing the request.", e);
+        }
+    }
+
+    /**
+     * A recorded response, as kept in the in-memory cache.
+     */
+    private record StoredResponse(String requestHash, int status, String body, HttpHeaders headers,
+                                  LocalDateTime createdAt) {
+    }
+}
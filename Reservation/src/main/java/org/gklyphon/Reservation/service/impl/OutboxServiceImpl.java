@@ -0,0 +1,121 @@
+package org.gklyphon.Reservation.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.gklyphon.Reservation.models.entities.OutboxEvent;
+import org.gklyphon.Reservation.models.entities.enums.ChangeType;
+import org.gklyphon.Reservation.outbox.OutboxEventSink;
+import org.gklyphon.Reservation.repository.IOutboxEventRepository;
+import org.gklyphon.Reservation.service.IOutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the {@link IOutboxService} interface.
+ * Events are recorded through {@link IOutboxEventRepository} and relayed to every {@link OutboxEventSink} bean.
+ *
+ * <p>The sinks are called outside any transaction, so that a slow sink, such as a webhook, holds neither a
+ * database connection nor row locks: a batch is claimed for {@code outbox.relay.lease} in a first short
+ * transaction, published, then marked as published in a second one.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements IOutboxService {
+
+    private final IOutboxEventRepository repository;
+    private final List<OutboxEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.relay.lease:1m}")
+    private Duration lease = Duration.ofMinutes(1);
+
+    @Value("${outbox.purge.retention:7d}")
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Records a change as a pending outbox event.
+     * Joins the transaction of the caller, and fails if there is none, so the event is committed or rolled back
+     * together with the change.
+     *
+     * @param aggregateType the type of the changed entity
+     * @param aggregateId the ID of the changed entity
+     * @param aggregateVersion the version of the entity after the change, or {@code null} for deletions
+     * @param changeType the kind of change
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, Long aggregateVersion, ChangeType changeType) {
+        repository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .aggregateVersion(aggregateVersion)
+                .changeType(changeType)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Claims the next batch of pending events, hands it to every sink and marks it as published.
+     * <p>
+     * The batch is claimed, and later marked as published, in two short transactions, and the sinks are called
+     * between them without any transaction. If a sink fails, the claim is released and the batch stays pending.
+     * If the instance stops while publishing, the claim expires after the lease and another run publishes the
+     * batch again.
+     * </p>
+     *
+     * @return the number of published events
+     */
+    @Override
+    public int relayPending() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> claimPending());
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        try {
+            sinks.forEach(sink -> sink.publish(events));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> repository.releaseClaims(ids));
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status -> repository.markPublished(ids, LocalDateTime.now()));
+        return events.size();
+    }
+
+    /**
+     * Locks the next batch of pending events and claims it for the lease, so that other relays skip it once the
+     * locks are released.
+     */
+    private List<OutboxEvent> claimPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = repository.findPendingForUpdate(now, Limit.of(batchSize));
+        LocalDateTime claimedUntil = now.plus(lease);
+        events.forEach(event -> event.setClaimedUntil(claimedUntil));
+        return events;
+    }
+
+    /**
+     * Deletes the events published before the retention period with a single statement.
+     *
+     * @return the number of deleted events
+     */
+    @Override
+    @Transactional
+    public int purgePublished() {
+        return repository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+}
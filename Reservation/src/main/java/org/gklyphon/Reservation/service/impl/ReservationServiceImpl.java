@@ -1,21 +1,33 @@
 package org.gklyphon.Reservation.service.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.gklyphon.Reservation.exception.exception.ElementNotFoundException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
 import org.gklyphon.Reservation.mapper.IReservationMapper;
+import org.gklyphon.Reservation.models.dtos.KeysetPageDTO;
 import org.gklyphon.Reservation.models.dtos.ReservationDTO;
 import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.models.entities.RoomReservation;
+import org.gklyphon.Reservation.models.entities.UserReservation;
+import org.gklyphon.Reservation.models.entities.enums.ChangeType;
 import org.gklyphon.Reservation.repository.IReservationRepository;
+import org.gklyphon.Reservation.service.IOutboxService;
 import org.gklyphon.Reservation.service.IReservationService;
 import org.hibernate.service.spi.ServiceException;
-import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link IReservationService} interface for managing {@link Reservation} entities.
@@ -42,26 +54,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationServiceImpl implements IReservationService {
 
+    private static final String AGGREGATE_TYPE = "Reservation";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private final IReservationRepository repository;
     private final IReservationMapper mapper;
+    private final IOutboxService outboxService;
+    private final EntityManager entityManager;
 
     /**
      * Deletes a reservation by its ID.
      * <p>
-     * This method first checks if the reservation with the given {@code id} exists, and if so,
-     * it deletes it from the repository. If no reservation is found, no action is taken.
+     * The reservation is not loaded: the reservation row is deleted directly, along with its user and room
+     * reservations, and the number of deleted rows tells whether the reservation existed.
+     * A {@code DELETED} outbox event is recorded in the same transaction.
      * </p>
      *
      * @param id the ID of the reservation to delete
+     * @throws ElementNotFoundException if no reservation is found for the given ID
      * @throws ServiceException if an error occurs during deletion
      */
     @Override
     @Transactional
     public void deleteById(Long id) {
         try {
-            if (findById(id) != null) {
-                repository.deleteById(id);
+            if (repository.deleteReservationById(id) == 0) {
+                throw new ElementNotFoundException("Reservation with id " + id + " not found.");
             }
+            outboxService.record(AGGREGATE_TYPE, id, null, ChangeType.DELETED);
         } catch (ElementNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -70,17 +91,17 @@ public class ReservationServiceImpl implements IReservationService {
     }
 
     /**
-     * Retrieves all reservations.
-     * <p>
-     * This method fetches all reservations from the repository.
-     * </p>
+     * Retrieves a page of reservations.
      *
-     * @return a list of all reservations
+     * @param pageable the pagination information
+     * @return a page of reservations
+     * @throws InvalidRequestException if the page size is out of bounds
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Reservation> findAll() {
-        return repository.findAll();
+    public Page<Reservation> findAllPageable(Pageable pageable) {
+        validatePageSize(pageable.getPageSize());
+        return repository.findAll(pageable);
     }
 
     /**
@@ -105,7 +126,8 @@ public class ReservationServiceImpl implements IReservationService {
      * Saves a new reservation.
      * <p>
      * This method saves a new reservation based on the provided {@link ReservationDTO}.
-     * The {@link ReservationDTO} is converted to a {@link Reservation} entity before being saved.
+     * The {@link ReservationDTO} is converted to a {@link Reservation} entity before being saved,
+     * and a {@code CREATED} outbox event is recorded in the same transaction.
      * </p>
      *
      * @param reservationDTO the DTO containing reservation data to save
@@ -116,17 +138,50 @@ public class ReservationServiceImpl implements IReservationService {
     @Transactional
     public Reservation save(ReservationDTO reservationDTO) {
         try {
-            return repository.save(mapper.toReservation(reservationDTO));
+            Reservation reservation = repository.save(mapper.toReservation(reservationDTO));
+            outboxService.record(AGGREGATE_TYPE, reservation.getId(), reservation.getVersion(), ChangeType.CREATED);
+            return reservation;
         } catch (Exception e) {
             throw new ServiceException("Unexpected error while saving reservation.", e);
         }
     }
 
+    /**
+     * Saves several new reservations in a single transaction.
+     * <p>
+     * Used by the group-commit writer so that a burst of reservations pays one commit instead of one per
+     * reservation. The child rows of the reservations are written with JDBC batching, and a {@code CREATED}
+     * outbox event is recorded for each reservation in the same transaction.
+     * </p>
+     *
+     * @param reservationDTOs the DTOs containing the reservation data to save
+     * @return the saved reservation entities, in the same order as the DTOs
+     * @throws ServiceException if an error occurs during saving
+     */
+    @Override
+    @Transactional
+    public List<Reservation> saveAll(List<ReservationDTO> reservationDTOs) {
+        try {
+            List<Reservation> reservations = repository.saveAll(
+                    reservationDTOs.stream().map(mapper::toReservation).toList());
+            reservations.forEach(reservation -> outboxService.record(
+                    AGGREGATE_TYPE, reservation.getId(), reservation.getVersion(), ChangeType.CREATED));
+            return reservations;
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while saving reservations.", e);
+        }
+    }
+
     /**
      * Updates an existing reservation.
      * <p>
-     * This method updates an existing reservation with the data provided in the {@link ReservationDTO}.
-     * The properties from the DTO are copied to the original reservation entity, excluding the {@code id}.
+     * This method updates the {@code userId}, {@code startDate} and {@code endDate} of the managed reservation
+     * with the data provided in the {@link ReservationDTO}, keeping its audit fields. The user and room
+     * reservations are reconciled by {@code userId} and {@code roomId}: rows that are still requested are kept,
+     * rows that are no longer requested are removed and only the new ids are inserted. An update that only
+     * changes the dates therefore issues a single {@code UPDATE} on the reservations table.
+     * The reservation is flushed so that the {@code UPDATED} outbox event recorded in the same transaction
+     * carries the incremented version.
      * </p>
      *
      * @param id the ID of the reservation to update
@@ -138,10 +193,15 @@ public class ReservationServiceImpl implements IReservationService {
     @Transactional
     public Reservation update(Long id, ReservationDTO reservationDTO) {
         try {
-            Reservation reservation = mapper.toReservation(reservationDTO);
             Reservation originalReservation = findById(id);
-            BeanUtils.copyProperties(reservation, originalReservation, "id");
-            return repository.save(originalReservation);
+            originalReservation.setUserId(reservationDTO.getUserId());
+            originalReservation.setStartDate(reservationDTO.getStartDate());
+            originalReservation.setEndDate(reservationDTO.getEndDate());
+            reconcileUserReservations(reservationDTO, originalReservation);
+            reconcileRoomReservations(reservationDTO, originalReservation);
+            Reservation updatedReservation = repository.saveAndFlush(originalReservation);
+            outboxService.record(AGGREGATE_TYPE, id, updatedReservation.getVersion(), ChangeType.UPDATED);
+            return updatedReservation;
         } catch (ElementNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -199,4 +259,199 @@ public class ReservationServiceImpl implements IReservationService {
     public Page<Reservation> findByUserId(Long userId, Pageable pageable) {
         return repository.findByUserId(userId, pageable);
     }
+
+    /**
+     * Retrieves the reservations of a room whose stay overlaps a date range.
+     * <p>
+     * One extra row is fetched to know whether another page follows; when it does, the ID of the last returned
+     * reservation becomes the {@code next} cursor.
+     * </p>
+     *
+     * @param roomId the ID of the room whose reservations to retrieve
+     * @param from the first day of the range, or {@code null} for no lower bound
+     * @param to the last day of the range, or {@code null} for no upper bound
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size the maximum number of reservations of the page
+     * @return a keyset page of reservations of the specified room
+     * @throws InvalidRequestException if the range is inverted or the size is out of bounds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<Reservation> findByRoomId(Long roomId, LocalDate from, LocalDate to, Long after, int size) {
+        validateRange(from, to);
+        validatePageSize(size);
+        return toKeysetPage(repository.findByRoomId(roomId, from, to, after, Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Retrieves the reservations whose stay overlaps a date range.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size the maximum number of reservations of the page
+     * @return a keyset page of reservations overlapping the range
+     * @throws InvalidRequestException if the range is inverted or the size is out of bounds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<Reservation> findOverlapping(LocalDate from, LocalDate to, Long after, int size) {
+        validateRange(from, to);
+        validatePageSize(size);
+        return toKeysetPage(repository.findOverlapping(from, to, after, Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Retrieves the reservations that start within a date range.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size the maximum number of reservations of the page
+     * @return a keyset page of reservations starting within the range
+     * @throws InvalidRequestException if the range is inverted or the size is out of bounds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<Reservation> findArrivals(LocalDate from, LocalDate to, Long after, int size) {
+        validateRange(from, to);
+        validatePageSize(size);
+        return toKeysetPage(repository.findArrivals(from, to, after, Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Retrieves the reservations that end within a date range.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param after the cursor returned by the previous page, or {@code null} for the first page
+     * @param size the maximum number of reservations of the page
+     * @return a keyset page of reservations ending within the range
+     * @throws InvalidRequestException if the range is inverted or the size is out of bounds
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<Reservation> findDepartures(LocalDate from, LocalDate to, Long after, int size) {
+        validateRange(from, to);
+        validatePageSize(size);
+        return toKeysetPage(repository.findDepartures(from, to, after, Limit.of(size + 1)), size);
+    }
+
+    /**
+     * Hands every reservation, in ID order and with its users and rooms, to the given consumer.
+     * <p>
+     * Reservations are read through a database stream and handed over in chunks of {@link #EXPORT_CHUNK_SIZE}:
+     * the users and rooms of a chunk are fetched with one query each before the chunk is consumed, and the
+     * persistence context is cleared once the chunk is consumed, so memory use does not grow with the history.
+     * </p>
+     *
+     * @param consumer the consumer receiving each reservation
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Reservation> consumer) {
+        List<Reservation> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Reservation> reservations = repository.streamAll()) {
+            reservations.forEach(reservation -> {
+                chunk.add(reservation);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, consumer);
+                }
+            });
+        }
+        exportChunk(chunk, consumer);
+    }
+
+    /**
+     * Checks that a date range is not inverted. Open bounds are accepted.
+     *
+     * @param from the first day of the range, or {@code null}
+     * @param to the last day of the range, or {@code null}
+     * @throws InvalidRequestException if {@code from} is after {@code to}
+     */
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("The start of the range must not be after its end.");
+        }
+    }
+
+    /**
+     * Checks that a page size is between 1 and {@link #MAX_PAGE_SIZE}.
+     *
+     * @param size the requested page size
+     * @throws InvalidRequestException if the size is out of bounds
+     */
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("The page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    /**
+     * Builds a keyset page from a result fetched with one row more than the requested size.
+     *
+     * @param reservations the reservations fetched, at most {@code size + 1}
+     * @param size the requested page size
+     * @return the keyset page, with a {@code next} cursor if more reservations follow
+     */
+    private KeysetPageDTO<Reservation> toKeysetPage(List<Reservation> reservations, int size) {
+        if (reservations.size() <= size) {
+            return new KeysetPageDTO<>(reservations, size, null);
+        }
+        List<Reservation> content = reservations.subList(0, size);
+        return new KeysetPageDTO<>(content, size, content.get(size - 1).getId());
+    }
+
+    /**
+     * Reconciles the user reservations of a managed reservation with the ones requested in the DTO.
+     * Since user reservations are compared by user ID, only the rows that changed are deleted or inserted.
+     *
+     * @param reservationDTO the DTO containing the requested user reservations
+     * @param reservation the managed reservation whose user reservations are reconciled
+     */
+    private void reconcileUserReservations(ReservationDTO reservationDTO, Reservation reservation) {
+        Set<UserReservation> requestedUserReservations = new LinkedHashSet<>();
+        if (reservationDTO.getUserReservations() != null) {
+            reservationDTO.getUserReservations().forEach(dto ->
+                    requestedUserReservations.add(UserReservation.builder().userId(dto.getUserId()).build()));
+        }
+        reservation.getUserReservations().retainAll(requestedUserReservations);
+        reservation.getUserReservations().addAll(requestedUserReservations);
+    }
+
+    /**
+     * Reconciles the room reservations of a managed reservation with the ones requested in the DTO.
+     * Since room reservations are compared by room ID, only the rows that changed are deleted or inserted.
+     *
+     * @param reservationDTO the DTO containing the requested room reservations
+     * @param reservation the managed reservation whose room reservations are reconciled
+     */
+    private void reconcileRoomReservations(ReservationDTO reservationDTO, Reservation reservation) {
+        Set<RoomReservation> requestedRoomReservations = new LinkedHashSet<>();
+        if (reservationDTO.getRoomReservations() != null) {
+            reservationDTO.getRoomReservations().forEach(dto ->
+                    requestedRoomReservations.add(RoomReservation.builder().roomId(dto.getRoomId()).build()));
+        }
+        reservation.getRoomReservations().retainAll(requestedRoomReservations);
+        reservation.getRoomReservations().addAll(requestedRoomReservations);
+    }
+
+    /**
+     * Fetches the users and rooms of a chunk of exported reservations, hands them to the consumer, then detaches
+     * them and empties the chunk.
+     *
+     * @param chunk the reservations read since the previous chunk
+     * @param consumer the consumer receiving each reservation
+     */
+    private void exportChunk(List<Reservation> chunk, Consumer<Reservation> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Long> ids = chunk.stream().map(Reservation::getId).toList();
+        repository.fetchUserReservations(ids);
+        repository.fetchRoomReservations(ids);
+        chunk.forEach(consumer);
+        entityManager.clear();
+        chunk.clear();
+    }
 }
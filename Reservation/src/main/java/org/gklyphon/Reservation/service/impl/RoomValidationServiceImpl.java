@@ -0,0 +1,234 @@
+package org.gklyphon.Reservation.service.impl;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gklyphon.Reservation.client.RoomClient;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.exception.exception.RoomNotAvailableException;
+import org.gklyphon.Reservation.exception.exception.RoomServiceUnavailableException;
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomBatchResultDTO;
+import org.gklyphon.Reservation.models.dtos.RoomReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomSummaryDTO;
+import org.gklyphon.Reservation.service.IRoomValidationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of {@link IRoomValidationService} calling the Room service through the {@link RoomClient}.
+ *
+ * <p>All the rooms of a reservation are looked up with a single batch call. The state of each room found is kept
+ * in a bounded, least-recently-used cache for {@code room-validation.cache.ttl}, so that bookings of recently
+ * validated rooms do not call the Room service at all. Missing rooms are not cached, so a room created meanwhile
+ * is found on the next booking.</p>
+ *
+ * <p>Calls go through the {@code room} bulkhead and circuit breaker configured under {@code resilience4j.*}.
+ * The bulkhead caps the booking threads waiting on the Room service, and the open circuit breaker rejects calls
+ * without waiting while the Room service is failing or slow. When a call is rejected or fails, the rooms are
+ * checked against their last known state, provided it is not older than {@code room-validation.cache.max-stale}.
+ * Otherwise a {@link RoomServiceUnavailableException} is thrown.</p>
+ *
+ * <p>Validation runs before the reservation transaction starts, so that no database connection is held during
+ * the call.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+public class RoomValidationServiceImpl implements IRoomValidationService {
+
+    /**
+     * Name of the circuit breaker and bulkhead instances guarding the calls to the Room service.
+     */
+    public static final String ROOM_SERVICE = "room";
+
+    private static final String NOT_AVAILABLE = "NOT_AVAILABLE";
+    private static final int MAX_ROOMS = 100;
+
+    private final RoomClient roomClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, CachedRoom> cache;
+    private final Counter staleCounter;
+    private final Counter unavailableCounter;
+
+    @Autowired
+    public RoomValidationServiceImpl(
+            RoomClient roomClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${room-validation.cache.ttl:30s}") Duration ttl,
+            @Value("${room-validation.cache.max-stale:10m}") Duration maxStale,
+            @Value("${room-validation.cache.max-size:10000}") int cacheMaxSize) {
+        this(roomClient, circuitBreakerRegistry.circuitBreaker(ROOM_SERVICE), bulkheadRegistry.bulkhead(ROOM_SERVICE),
+                meterRegistry, ttl, maxStale, cacheMaxSize, System::nanoTime);
+    }
+
+    RoomValidationServiceImpl(RoomClient roomClient, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                              MeterRegistry meterRegistry, Duration ttl, Duration maxStale, int cacheMaxSize,
+                              LongSupplier nanoClock) {
+        this.roomClient = roomClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.ttlNanos = ttl.toNanos();
+        this.maxStaleNanos = maxStale.toNanos();
+        this.nanoClock = nanoClock;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRoom> eldest) {
+                return size() > cacheMaxSize;
+            }
+        });
+        this.staleCounter = Counter.builder("room.validation.fallback")
+                .description("Validations that could not reach the Room service, by outcome")
+                .tag("outcome", "stale")
+                .register(meterRegistry);
+        this.unavailableCounter = Counter.builder("room.validation.fallback")
+                .description("Validations that could not reach the Room service, by outcome")
+                .tag("outcome", "unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks that every room of a reservation exists and is not {@code NOT_AVAILABLE}, calling the Room service
+     * once for the rooms missing from the cache or cached for longer than the TTL.
+     *
+     * @param reservationDTO the reservation
+     * @return {@code true} if the Room service could not be reached and some rooms were checked against their last
+     *         known state
+     * @throws InvalidRequestException if a room does not exist, or more than {@value #MAX_ROOMS} rooms are booked
+     * @throws RoomNotAvailableException if a room is {@code NOT_AVAILABLE}
+     * @throws RoomServiceUnavailableException if the Room service could not be reached and the last known state of
+     *         a room is missing or older than the maximum staleness
+     */
+    @Override
+    public boolean validateRooms(ReservationDTO reservationDTO) {
+        if (reservationDTO.getRoomReservations() == null) {
+            return false;
+        }
+        Set<Long> roomIds = new LinkedHashSet<>();
+        reservationDTO.getRoomReservations().stream()
+                .map(RoomReservationDTO::getRoomId)
+                .filter(Objects::nonNull)
+                .forEach(roomIds::add);
+        if (roomIds.size() > MAX_ROOMS) {
+            throw new InvalidRequestException("A reservation cannot book more than " + MAX_ROOMS + " rooms.");
+        }
+
+        long now = nanoClock.getAsLong();
+        Map<Long, String> roomStates = new LinkedHashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            CachedRoom cached = cache.get(roomId);
+            if (cached != null && now - cached.cachedAt() < ttlNanos) {
+                roomStates.put(roomId, cached.roomState());
+            } else {
+                uncachedIds.add(roomId);
+            }
+        }
+
+        boolean stale = false;
+        List<Long> missingIds = new ArrayList<>();
+        if (!uncachedIds.isEmpty()) {
+            RoomBatchResultDTO batch;
+            try {
+                batch = findRooms(uncachedIds);
+            } catch (RoomServiceUnavailableException e) {
+                roomStates.putAll(lastKnownStates(uncachedIds, now, e));
+                batch = null;
+                stale = true;
+            }
+            if (batch != null) {
+                Map<Long, RoomSummaryDTO> rooms = batch.getRooms() != null ? batch.getRooms() : Map.of();
+                for (Long roomId : uncachedIds) {
+                    RoomSummaryDTO room = rooms.get(roomId);
+                    if (room == null) {
+                        cache.remove(roomId);
+                        missingIds.add(roomId);
+                    } else {
+                        cache.put(roomId, new CachedRoom(room.getRoomState(), now));
+                        roomStates.put(roomId, room.getRoomState());
+                    }
+                }
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            throw new InvalidRequestException("Rooms with ids: " + missingIds + " not found.");
+        }
+        List<Long> notAvailableIds = roomStates.entrySet().stream()
+                .filter(entry -> NOT_AVAILABLE.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!notAvailableIds.isEmpty()) {
+            throw new RoomNotAvailableException("Rooms with ids: " + notAvailableIds + " are not available.");
+        }
+        return stale;
+    }
+
+    /**
+     * Looks up rooms through the bulkhead and the circuit breaker. The bulkhead is applied first, so that calls
+     * rejected for lack of permits are not recorded as failures of the Room service by the circuit breaker.
+     */
+    private RoomBatchResultDTO findRooms(List<Long> roomIds) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> roomClient.findAllByIds(roomIds))).get();
+        } catch (CallNotPermittedException e) {
+            throw new RoomServiceUnavailableException("The Room service is unavailable, circuit breaker is open", e);
+        } catch (BulkheadFullException e) {
+            throw new RoomServiceUnavailableException("Too many concurrent calls to the Room service", e);
+        } catch (FeignException e) {
+            throw new RoomServiceUnavailableException("Unable to validate the rooms of the reservation", e);
+        }
+    }
+
+    /**
+     * Returns the last known state of rooms, after a call to the Room service failed.
+     *
+     * @throws RoomServiceUnavailableException the failure of the call, if a room has no state recent enough
+     */
+    private Map<Long, String> lastKnownStates(List<Long> roomIds, long now, RoomServiceUnavailableException failure) {
+        Map<Long, String> roomStates = new LinkedHashMap<>();
+        for (Long roomId : roomIds) {
+            CachedRoom cached = cache.get(roomId);
+            if (cached == null || now - cached.cachedAt() >= maxStaleNanos) {
+                unavailableCounter.increment();
+                throw failure;
+            }
+            roomStates.put(roomId, cached.roomState());
+        }
+        staleCounter.increment();
+        return roomStates;
+    }
+
+    /**
+     * The state of a room, with the time it was fetched.
+     */
+    private record CachedRoom(String roomState, long cachedAt) {
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -35,24 +36,21 @@ public class Data {
             .endDate(LocalDate.of(2024,12, 18))
             .userId(3L)
             .roomReservations(
-                    List.of(
+                    new LinkedHashSet<>(List.of(
                             RoomReservation.builder()
-                                    .id(1L)
                                     .roomId(2L)
                                     .build(),
                             RoomReservation.builder()
-                                    .id(2L)
                                     .roomId(3L)
                                     .build()
-                    )
+                    ))
             )
             .userReservations(
-                    List.of(
+                    new LinkedHashSet<>(List.of(
                             UserReservation.builder()
-                                    .id(1L)
                                     .userId(1L)
                                     .build()
-                    )
+                    ))
             )
             .build();
 
@@ -0,0 +1,150 @@
+package org.gklyphon.Reservation.batch;
+
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.service.IReservationService;
+import org.hibernate.service.spi.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ReservationGroupCommitWriter}.
+ * Uses a mocked {@link IReservationService} and concurrent callers to verify that reservations are saved
+ * in batches and that each caller gets its own outcome.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationGroupCommitWriterTest {
+
+    @Mock
+    IReservationService service;
+
+    ReservationGroupCommitWriter writer;
+    ExecutorService callers = Executors.newFixedThreadPool(5);
+
+    @BeforeEach
+    void setUp() {
+        writer = new ReservationGroupCommitWriter(service, Duration.ofMillis(200), 5, 100, Duration.ofSeconds(5));
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        writer.stop();
+    }
+
+    /**
+     * Concurrent reservations must be saved together with {@code saveAll}, each caller receiving its own reservation.
+     */
+    @Test
+    void write_shouldSaveConcurrentReservationsInOneBatch() {
+        when(service.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<ReservationDTO>>getArgument(0)
+                .stream().map(ReservationGroupCommitWriterTest::reservation).toList());
+
+        List<Reservation> reservations = writeConcurrently(5);
+
+        assertThat(reservations).extracting(Reservation::getUserId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        verify(service).saveAll(argThat(batch -> batch.size() == 5));
+        verify(service, never()).save(any());
+    }
+
+    /**
+     * When the batch fails, each reservation must be saved on its own and only the failing caller gets an error.
+     */
+    @Test
+    void write_shouldIsolateFailingReservation_whenBatchFails() {
+        when(service.saveAll(anyList())).thenThrow(new ServiceException("Unexpected error while saving reservations."));
+        when(service.save(any(ReservationDTO.class))).thenAnswer(invocation -> {
+            ReservationDTO reservationDTO = invocation.getArgument(0);
+            if (reservationDTO.getUserId() == 2L) {
+                throw new ServiceException("Unexpected error while saving reservation.");
+            }
+            return reservation(reservationDTO);
+        });
+
+        CompletableFuture<Reservation> failing = CompletableFuture.supplyAsync(() -> writer.write(reservationDTO(2L)), callers);
+        CompletableFuture<Reservation> succeeding = CompletableFuture.supplyAsync(() -> writer.write(reservationDTO(3L)), callers);
+
+        assertThat(succeeding.join().getUserId()).isEqualTo(3L);
+        assertThrows(Exception.class, failing::join);
+        verify(service, times(2)).save(any(ReservationDTO.class));
+    }
+
+    /**
+     * A caller timing out before the writer picks up its reservation must get an error,
+     * and its reservation must never be saved afterwards.
+     */
+    @Test
+    void write_shouldNeverSaveReservation_whenCallerTimedOut() throws InterruptedException {
+        writer.stop();
+        writer = new ReservationGroupCommitWriter(service, Duration.ofMillis(10), 5, 100, Duration.ofMillis(300));
+        writer.start();
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(service.saveAll(anyList())).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await();
+            return invocation.<List<ReservationDTO>>getArgument(0)
+                    .stream().map(ReservationGroupCommitWriterTest::reservation).toList();
+        });
+
+        CompletableFuture<Reservation> first = CompletableFuture.supplyAsync(() -> writer.write(reservationDTO(1L)), callers);
+        saving.await();
+        CompletableFuture<Reservation> timedOut = CompletableFuture.supplyAsync(() -> writer.write(reservationDTO(2L)), callers);
+
+        assertThrows(Exception.class, timedOut::join);
+        release.countDown();
+        assertThat(first.join().getUserId()).isEqualTo(1L);
+        writer.stop();
+
+        verify(service).saveAll(argThat(batch -> batch.size() == 1 && batch.get(0).getUserId() == 1L));
+        verify(service, never()).save(any());
+    }
+
+    private List<Reservation> writeConcurrently(int count) {
+        List<CompletableFuture<Reservation>> futures = LongStream.rangeClosed(1, count)
+                .mapToObj(userId -> CompletableFuture.supplyAsync(() -> writer.write(reservationDTO(userId)), callers))
+                .toList();
+        return futures.stream().map(CompletableFuture::join)
+                .sorted((a, b) -> a.getUserId().compareTo(b.getUserId()))
+                .toList();
+    }
+
+    private static ReservationDTO reservationDTO(long userId) {
+        return ReservationDTO.builder()
+                .userId(userId)
+                .startDate(LocalDate.of(2024, 12, 3))
+                .endDate(LocalDate.of(2024, 12, 18))
+                .build();
+    }
+
+    private static Reservation reservation(ReservationDTO reservationDTO) {
+        Reservation reservation = new Reservation();
+        reservation.setId(reservationDTO.getUserId() + 100);
+        reservation.setUserId(reservationDTO.getUserId());
+        return reservation;
+    }
+}
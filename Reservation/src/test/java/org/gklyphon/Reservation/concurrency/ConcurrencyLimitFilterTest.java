@@ -0,0 +1,110 @@
+package org.gklyphon.Reservation.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link ConcurrencyLimitFilter} class.
+ * Uses a route group with a fixed limit of one request to check admission, rejection and metrics.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class ConcurrencyLimitFilterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+        group.setMethods(List.of("POST"));
+        group.setPaths(List.of("/reservations/**"));
+        group.setInitialLimit(1);
+        group.setMinLimit(1);
+        group.setMaxLimit(1);
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        properties.getGroups().put("reservation-write", group);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry);
+    }
+
+    /**
+     * A request over the limit must be rejected with 503 and Retry-After, without reaching the chain.
+     */
+    @Test
+    void shouldRejectRequestOverLimit() throws Exception {
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> {
+            try {
+                filter.doFilter(post("/reservations/create"), rejected, new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        filter.doFilter(post("/reservations/create"), new MockHttpServletResponse(), chain);
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("overloaded");
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("group", "reservation-write")
+                .counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * The slot must be released once the request completes, so that the next request is admitted.
+     */
+    @Test
+    void shouldReleaseSlot_whenRequestCompletes() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        filter.doFilter(post("/reservations/create"), first, new MockFilterChain());
+        filter.doFilter(post("/reservations/create"), second, new MockFilterChain());
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(filter.getLimiters().get(0).getInFlight()).isZero();
+        assertThat(meterRegistry.get("http.server.concurrency.limit").tag("group", "reservation-write")
+                .gauge().value()).isEqualTo(1);
+    }
+
+    /**
+     * Requests outside every route group must not be limited.
+     */
+    @Test
+    void shouldNotLimitRequestsOutsideRouteGroups() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, servletResponse) -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/reservations"), response, new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        filter.doFilter(post("/reservations/create"), new MockHttpServletResponse(), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest post(String path) {
+        return new MockHttpServletRequest("POST", path);
+    }
+}
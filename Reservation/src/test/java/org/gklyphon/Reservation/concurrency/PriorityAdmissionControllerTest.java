@@ -0,0 +1,138 @@
+package org.gklyphon.Reservation.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link PriorityAdmissionController} class.
+ * Uses a single slot to check the order in which queued requests are admitted and when requests are shed.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class PriorityAdmissionControllerTest {
+
+    PriorityAdmissionProperties properties;
+    double cpuLoad;
+    PriorityAdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PriorityAdmissionProperties();
+        properties.setMaxConcurrent(1);
+        properties.getSheddable().setQueueCapacity(2);
+        properties.getSheddable().setMaxWait(Duration.ofSeconds(5));
+        properties.getCritical().setMaxWait(Duration.ofSeconds(5));
+        properties.getStandard().setMaxWait(Duration.ofSeconds(5));
+        cpuLoad = 0.1;
+        controller = new PriorityAdmissionController(properties, () -> cpuLoad);
+    }
+
+    /**
+     * A freed slot must go to a queued critical request before sheddable requests queued earlier.
+     */
+    @Test
+    void shouldAdmitQueuedCriticalRequestFirst() throws Exception {
+        PriorityAdmissionController.Admission first = controller.admit(PriorityClass.SHEDDABLE);
+        List<PriorityClass> admitted = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> sheddable = admitAsync(PriorityClass.SHEDDABLE, admitted);
+        awaitQueued(() -> controller.getQueued(PriorityClass.SHEDDABLE), 1);
+        CompletableFuture<Void> critical = admitAsync(PriorityClass.CRITICAL, admitted);
+        awaitQueued(() -> controller.getQueued(PriorityClass.CRITICAL), 1);
+
+        first.release();
+        CompletableFuture.allOf(sheddable, critical).get(5, TimeUnit.SECONDS);
+
+        assertThat(admitted).containsExactly(PriorityClass.CRITICAL, PriorityClass.SHEDDABLE);
+        assertThat(controller.getInFlight()).isZero();
+    }
+
+    /**
+     * At capacity and under CPU pressure, sheddable requests must be shed while critical requests still queue.
+     */
+    @Test
+    void shouldShedLowerClassesFirst_whenCpuIsBusy() throws Exception {
+        cpuLoad = 0.85;
+        PriorityAdmissionController.Admission first = controller.admit(PriorityClass.STANDARD);
+        List<PriorityClass> admitted = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> critical = admitAsync(PriorityClass.CRITICAL, admitted);
+        awaitQueued(() -> controller.getQueued(PriorityClass.CRITICAL), 1);
+
+        PriorityAdmissionController.Admission sheddable = controller.admit(PriorityClass.SHEDDABLE);
+
+        assertThat(first.isAdmitted()).isTrue();
+        assertThat(sheddable.isAdmitted()).isFalse();
+        assertThat(sheddable.getShedReason()).isEqualTo(PriorityAdmissionController.ShedReason.CPU);
+        first.release();
+        critical.get(5, TimeUnit.SECONDS);
+        assertThat(admitted).containsExactly(PriorityClass.CRITICAL);
+    }
+
+    /**
+     * A request must be shed when the queue of its class is full.
+     */
+    @Test
+    void shouldShed_whenQueueIsFull() throws Exception {
+        properties.getSheddable().setQueueShedThreshold(1.0);
+        PriorityAdmissionController.Admission first = controller.admit(PriorityClass.SHEDDABLE);
+        List<PriorityClass> admitted = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> queued = CompletableFuture.allOf(
+                admitAsync(PriorityClass.SHEDDABLE, admitted), admitAsync(PriorityClass.SHEDDABLE, admitted));
+        awaitQueued(() -> controller.getQueued(PriorityClass.SHEDDABLE), 2);
+
+        PriorityAdmissionController.Admission overflow = controller.admit(PriorityClass.SHEDDABLE);
+
+        assertThat(overflow.getShedReason()).isEqualTo(PriorityAdmissionController.ShedReason.QUEUE_FULL);
+        first.release();
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(admitted).hasSize(2);
+    }
+
+    /**
+     * A request waiting longer than the maximum wait of its class must be shed and leave the queue.
+     */
+    @Test
+    void shouldShed_whenWaitTimesOut() throws Exception {
+        properties.getStandard().setMaxWait(Duration.ofMillis(50));
+        PriorityAdmissionController.Admission first = controller.admit(PriorityClass.CRITICAL);
+
+        PriorityAdmissionController.Admission timedOut = controller.admit(PriorityClass.STANDARD);
+
+        assertThat(timedOut.getShedReason()).isEqualTo(PriorityAdmissionController.ShedReason.TIMEOUT);
+        assertThat(controller.getQueued(PriorityClass.STANDARD)).isZero();
+        first.release();
+        assertThat(controller.getInFlight()).isZero();
+    }
+
+    private CompletableFuture<Void> admitAsync(PriorityClass priorityClass, List<PriorityClass> admitted) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                PriorityAdmissionController.Admission admission = controller.admit(priorityClass);
+                if (admission.isAdmitted()) {
+                    admitted.add(priorityClass);
+                    admission.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, task -> Thread.ofVirtual().start(task));
+    }
+
+    private static void awaitQueued(IntSupplier queued, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued.getAsInt() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queued.getAsInt()).isEqualTo(expected);
+    }
+}
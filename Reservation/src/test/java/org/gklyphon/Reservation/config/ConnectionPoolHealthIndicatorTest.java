@@ -0,0 +1,78 @@
+package org.gklyphon.Reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ConnectionPoolHealthIndicator} class.
+ * Uses a mock pool of ten connections and a manual clock.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class ConnectionPoolHealthIndicatorTest {
+
+    HikariPoolMXBean pool;
+    ConnectionPoolHealthIndicator indicator;
+    long now;
+
+    @BeforeEach
+    void setUp() {
+        pool = mock(HikariPoolMXBean.class);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        indicator = new ConnectionPoolHealthIndicator(Map.of("dataSource", dataSource), 2, Duration.ofSeconds(5),
+                () -> now);
+    }
+
+    @Test
+    void health_shouldBeUp_whenPoolHasFreeConnections() {
+        when(pool.getActiveConnections()).thenReturn(9);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    /**
+     * A full pool with threads waiting beyond the threshold for the whole sustain period must take the service out
+     * of service.
+     */
+    @Test
+    void health_shouldBeOutOfService_whenPoolStaysSaturated() {
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(2);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        now += Duration.ofSeconds(5).toNanos();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(indicator.health().getDetails()).containsKey("dataSource");
+    }
+
+    /**
+     * A burst that fills the pool and drains within the sustain period must not take the service out of service,
+     * and must not count towards the next one.
+     */
+    @Test
+    void health_shouldBeUp_whenSaturationDoesNotLast() {
+        when(pool.getActiveConnections()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(2, 0, 2);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        now += Duration.ofSeconds(3).toNanos();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        now += Duration.ofSeconds(3).toNanos();
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
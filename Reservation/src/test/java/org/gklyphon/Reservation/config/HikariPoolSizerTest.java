@@ -0,0 +1,42 @@
+package org.gklyphon.Reservation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link HikariPoolSizer} class.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class HikariPoolSizerTest {
+
+    @Test
+    void poolSize_shouldGrowWithCoresAndIoWait() {
+        assertThat(HikariPoolSizer.poolSize(4, 0, 50)).isEqualTo(4);
+        assertThat(HikariPoolSizer.poolSize(4, 1.0, 50)).isEqualTo(8);
+        assertThat(HikariPoolSizer.poolSize(4, 2.5, 50)).isEqualTo(14);
+    }
+
+    @Test
+    void poolSize_shouldStayWithinBounds() {
+        assertThat(HikariPoolSizer.poolSize(1, 0, 50)).isEqualTo(2);
+        assertThat(HikariPoolSizer.poolSize(64, 3.0, 50)).isEqualTo(50);
+    }
+
+    /**
+     * Hikari pools must be fixed at the computed size before they start.
+     */
+    @Test
+    void postProcessBeforeInitialization_shouldFixPoolSize() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        new HikariPoolSizer(4, 1.0, 50).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(8);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(8);
+    }
+}
@@ -3,25 +3,43 @@ package org.gklyphon.Reservation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.gklyphon.Reservation.Data;
+import org.gklyphon.Reservation.exception.exception.ElementNotFoundException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.exception.exception.RoomNotAvailableException;
+import org.gklyphon.Reservation.models.dtos.KeysetPageDTO;
 import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.entities.Reservation;
 import org.gklyphon.Reservation.service.IReservationService;
+import org.gklyphon.Reservation.service.IRoomValidationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -42,11 +60,14 @@ class ReservationControllerTest {
     @Autowired
     MockMvc mockMvc;
 
-    @Mock
+    @MockBean
     IReservationService service;
 
+    @MockBean
+    IRoomValidationService roomValidationService;
+
     ObjectMapper objectMapper;
-    final String API_URL = "/reservation";
+    final String API_URL = "/reservations";
 
     /**
      * Initializes the ObjectMapper with support for Java 8 date and time API.
@@ -58,18 +79,43 @@ class ReservationControllerTest {
     }
 
     /**
-     * Tests retrieval of all reservations.
-     * Validates that the service returns a list of reservations with HTTP status 200.
+     * Tests retrieval of all reservations with pagination.
+     * Validates that the service is asked for a bounded page and that the page is returned with HTTP status 200.
      */
     @Test
     void getAll() throws Exception {
-        when(service.findAll()).thenReturn(Data.RESERVATIONS);
+        when(service.findAllPageable(any(Pageable.class))).thenReturn(Data.RESERVATION_PAGE);
         mockMvc.perform(
                 MockMvcRequestBuilders.get(API_URL)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L));
-        verify(service).findAll();
+                .andExpect(jsonPath("$._embedded.reservationList[0].id").value(1L));
+        verify(service).findAllPageable(PageRequest.of(0, 10));
+    }
+
+    /**
+     * Tests the export of all reservations as newline-delimited JSON.
+     */
+    @Test
+    void export() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            dispatched.await(5, TimeUnit.SECONDS);
+            Consumer<Reservation> consumer = invocation.getArgument(0);
+            consumer.accept(Data.RESERVATION);
+            consumer.accept(Data.RESERVATION);
+            return null;
+        }).when(service).exportAll(any());
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        dispatched.countDown();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[1]).get("id").asLong());
     }
 
     /**
@@ -95,7 +141,7 @@ class ReservationControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/by-user/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1L));
+                .andExpect(jsonPath("$._embedded.reservationList[0].id").value(1L));
         verify(service).findByUserId(anyLong(), any(Pageable.class));
     }
 
@@ -107,7 +153,7 @@ class ReservationControllerTest {
         when(service.findByStartDate(any(LocalDate.class), any(Pageable.class))).thenReturn(Data.RESERVATION_PAGE);
         mockMvc.perform(
                 MockMvcRequestBuilders.get(API_URL + "/by-start-date")
-                        .param("start-date","2024-12-3")
+                        .param("start-date","2024-12-03")
                         .param("page","0")
                         .param("size","10")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -130,7 +176,7 @@ class ReservationControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$._embedded.reservationList[0].id").value(1L));
-        verify(service).findByStartDate(any(LocalDate.class), any(Pageable.class));
+        verify(service).findByEndDate(any(LocalDate.class), any(Pageable.class));
     }
 
     /**
@@ -141,14 +187,96 @@ class ReservationControllerTest {
     void saveReservation() throws Exception {
         when(service.save(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
         mockMvc.perform(
-                MockMvcRequestBuilders.post(API_URL + "/save")
-                        .content(objectMapper.writeValueAsString(Data.RESERVATION_PAGE))
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1L));
         verify(service).save(any(ReservationDTO.class));
     }
 
+    /**
+     * Tests creating a reservation for a room that cannot be booked.
+     * Validates that the request is rejected with HTTP status 409 without saving the reservation.
+     */
+    @Test
+    void saveReservation_shouldReturnConflict_whenRoomIsNotAvailable() throws Exception {
+        doThrow(new RoomNotAvailableException("Rooms with ids: [1] are not available."))
+                .when(roomValidationService).validateRooms(any(ReservationDTO.class));
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict());
+        verify(service, never()).save(any(ReservationDTO.class));
+    }
+
+    /**
+     * Tests creating a reservation while the Room service is unavailable.
+     * Validates that a reservation checked against the last known state of its rooms is flagged as stale.
+     */
+    @Test
+    void saveReservation_shouldFlagStaleRoomData_whenRoomsWereValidatedAgainstLastKnownState() throws Exception {
+        when(roomValidationService.validateRooms(any(ReservationDTO.class))).thenReturn(true);
+        when(service.save(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IRoomValidationService.ROOM_DATA_STALE_HEADER, "true"));
+    }
+
+    /**
+     * Tests retrying a reservation creation with the same {@code Idempotency-Key}.
+     * Validates that the retry replays the first response without saving the reservation again.
+     */
+    @Test
+    void saveReservation_shouldReplayResponse_whenIdempotencyKeyIsReused() throws Exception {
+        when(service.save(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
+        String idempotencyKey = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    MockMvcRequestBuilders.post(API_URL + "/create")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1L));
+        }
+        verify(service).save(any(ReservationDTO.class));
+    }
+
+    /**
+     * Tests reusing an {@code Idempotency-Key} for a different reservation.
+     * Validates that the request is rejected with HTTP status 422.
+     */
+    @Test
+    void saveReservation_shouldReturnUnprocessableEntity_whenIdempotencyKeyIsReusedForAnotherRequest() throws Exception {
+        when(service.save(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
+        String idempotencyKey = UUID.randomUUID().toString();
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+        ReservationDTO otherReservationDTO = ReservationDTO.builder()
+                .userId(2L)
+                .startDate(Data.RESERVATION_DTO.getStartDate())
+                .endDate(Data.RESERVATION_DTO.getEndDate())
+                .roomReservations(Data.RESERVATION_DTO.getRoomReservations())
+                .userReservations(Data.RESERVATION_DTO.getUserReservations())
+                .build();
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .content(objectMapper.writeValueAsString(otherReservationDTO))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity());
+        verify(service).save(any(ReservationDTO.class));
+    }
+
     /**
      * Tests updating an existing reservation.
      * Ensures that the update process works and returns the correct reservation.
@@ -156,15 +284,13 @@ class ReservationControllerTest {
     @Test
     void updateReservation() throws Exception {
         when(service.update(anyLong(), any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
-        when(service.findById(anyLong())).thenReturn(Data.RESERVATION);
         mockMvc.perform(
-                        MockMvcRequestBuilders.post(API_URL + "/save")
-                                .content(objectMapper.writeValueAsString(Data.RESERVATION_PAGE))
+                        MockMvcRequestBuilders.put(API_URL + "/update/1")
+                                .content(objectMapper.writeValueAsString(Data.RESERVATION_DTO))
                                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isCreated())
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L));
         verify(service).update(anyLong(), any(ReservationDTO.class));
-        verify(service).findById(anyLong());
     }
 
     /**
@@ -174,12 +300,90 @@ class ReservationControllerTest {
     @Test
     void deleteReservation() throws Exception {
         doNothing().when(service).deleteById(anyLong());
-        when(service.findById(anyLong())).thenReturn(Data.RESERVATION);
         mockMvc.perform(
                 MockMvcRequestBuilders.delete(API_URL + "/delete/1")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
         verify(service).deleteById(anyLong());
-        verify(service).findById(anyLong());
+        verify(service, never()).findById(anyLong());
+    }
+
+    /**
+     * Tests deleting a reservation that does not exist.
+     * Validates that the deletion returns HTTP status 404.
+     */
+    @Test
+    void deleteReservation_shouldReturnNotFound() throws Exception {
+        doThrow(new ElementNotFoundException("Reservation with id 1 not found."))
+                .when(service).deleteById(anyLong());
+        mockMvc.perform(
+                        MockMvcRequestBuilders.delete(API_URL + "/delete/1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+        verify(service).deleteById(anyLong());
+    }
+
+    /**
+     * Tests retrieval of the reservations of a room with keyset pagination.
+     */
+    @Test
+    void getByRoomId() throws Exception {
+        when(service.findByRoomId(anyLong(), any(LocalDate.class), any(LocalDate.class), any(), anyInt()))
+                .thenReturn(new KeysetPageDTO<>(Data.RESERVATIONS, 1, 1L));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/by-room/2")
+                                .param("from", "2024-12-01")
+                                .param("to", "2024-12-31")
+                                .param("size", "1")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.next").value(1L));
+        verify(service).findByRoomId(2L, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31), null, 1);
+    }
+
+    /**
+     * Tests that an invalid room lookup returns HTTP status 400.
+     */
+    @Test
+    void getByRoomId_shouldReturnBadRequest_whenRequestIsInvalid() throws Exception {
+        when(service.findByRoomId(anyLong(), any(), any(), any(), anyInt()))
+                .thenThrow(new InvalidRequestException("The start of the range must not be after its end."));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/by-room/2")
+                                .param("from", "2024-12-31")
+                                .param("to", "2024-12-01")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests retrieving the reservations departing within a date range.
+     */
+    @Test
+    void getDepartures() throws Exception {
+        when(service.findDepartures(any(), any(), any(), anyInt()))
+                .thenReturn(new KeysetPageDTO<>(Data.RESERVATIONS, 20, null));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/departures")
+                                .param("from", "2024-12-01")
+                                .param("to", "2024-12-31")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L));
+        verify(service).findDepartures(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31), null, 20);
+    }
+
+    /**
+     * Tests that the overlap lookup requires both ends of the range.
+     */
+    @Test
+    void getOverlapping_shouldReturnBadRequest_whenRangeIsMissing() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(API_URL + "/overlapping")
+                                .param("from", "2024-12-01")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(service);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package org.gklyphon.Reservation.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the fallback of read-only transactions to the primary when the replica is down.
+ * The replica URL points to an embedded database that does not exist, so that every connection attempt fails.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootTest(properties = {
+        "server.port=0",
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "read-replicas.enabled=true",
+        "read-replicas.connection-timeout=250ms",
+        "read-replicas.nodes[0].url=jdbc:h2:mem:down;IFEXISTS=TRUE"
+})
+class ReadReplicaFallbackTest {
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * A read-only transaction must read the primary after waiting at most about the replica connection timeout,
+     * rather than the connection timeout of the primary pool.
+     */
+    @Test
+    void shouldFallBackToPrimaryWithinReplicaConnectionTimeout_whenReplicaIsDown() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long start = System.nanoTime();
+        String database = readOnly.execute(status -> currentDatabase());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(database).isEqualTo("PRIMARY");
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
@@ -0,0 +1,118 @@
+package org.gklyphon.Reservation.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ReplicaRoutingDataSource} class.
+ * Uses mock data sources, each giving its own connection, to check which one a transaction is routed to.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class ReplicaRoutingDataSourceTest {
+
+    DataSource primary;
+    DataSource first;
+    DataSource second;
+    Connection primaryConnection;
+    Connection firstConnection;
+    Connection secondConnection;
+    int firstActive;
+    int secondActive;
+    long now;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        first = mock(DataSource.class);
+        second = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        firstConnection = mock(Connection.class);
+        secondConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        assertThat(routing(ReadReplicaProperties.Selection.ROUND_ROBIN).getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplicasInTurn() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(ReadReplicaProperties.Selection.ROUND_ROBIN);
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection(), routing.getConnection()))
+                .containsExactly(firstConnection, secondConnection, firstConnection);
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplicaWithFewestConnections() throws SQLException {
+        firstActive = 4;
+        secondActive = 1;
+
+        assertThat(routing(ReadReplicaProperties.Selection.LEAST_CONNECTIONS).getConnection())
+                .isSameAs(secondConnection);
+    }
+
+    /**
+     * Reads of a client that just wrote must go to the primary.
+     */
+    @Test
+    void shouldRouteReadOnlyTransactionsToPrimary_whenPrimaryIsForced() throws SQLException {
+        ReplicaRoutingContext.forcePrimary();
+
+        assertThat(routing(ReadReplicaProperties.Selection.ROUND_ROBIN).getConnection()).isSameAs(primaryConnection);
+    }
+
+    /**
+     * A failing replica must be skipped for the retry interval, and the primary used when no replica is left.
+     */
+    @Test
+    void shouldFallBack_whenReplicaFails() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(second.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource routing = routing(ReadReplicaProperties.Selection.ROUND_ROBIN);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        doReturn(firstConnection).when(first).getConnection();
+        now += TimeUnit.SECONDS.toNanos(10);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        now += TimeUnit.SECONDS.toNanos(30);
+        assertThat(routing.getConnection()).isSameAs(firstConnection);
+    }
+
+    private ReplicaRoutingDataSource routing(ReadReplicaProperties.Selection selection) {
+        return new ReplicaRoutingDataSource(primary, List.of(
+                new ReplicaRoutingDataSource.Replica("replica-0", first, () -> firstActive),
+                new ReplicaRoutingDataSource.Replica("replica-1", second, () -> secondActive)),
+                selection, Duration.ofSeconds(30), () -> now);
+    }
+}
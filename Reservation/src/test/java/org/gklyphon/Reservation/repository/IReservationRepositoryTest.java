@@ -0,0 +1,147 @@
+package org.gklyphon.Reservation.repository;
+
+import org.gklyphon.Reservation.SqlStatementRecorder;
+import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.models.entities.RoomReservation;
+import org.gklyphon.Reservation.models.entities.UserReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Persistence tests for the modifying queries of {@link IReservationRepository}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.Reservation.SqlStatementRecorder"
+})
+class IReservationRepositoryTest {
+
+    @Autowired
+    IReservationRepository repository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    Reservation reservation;
+
+    /**
+     * Persists a reservation with two rooms and one additional user.
+     */
+    @BeforeEach
+    void setUp() {
+        reservation = new Reservation();
+        reservation.setUserId(3L);
+        reservation.setStartDate(LocalDate.of(2024, 12, 3));
+        reservation.setEndDate(LocalDate.of(2024, 12, 18));
+        reservation.addRoomReservations(RoomReservation.builder().roomId(2L).build());
+        reservation.addRoomReservations(RoomReservation.builder().roomId(3L).build());
+        reservation.addUserReservations(UserReservation.builder().userId(1L).build());
+        entityManager.persistAndFlush(reservation);
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Deleting a reservation must remove its user and room reservations with one statement each,
+     * without selecting the reservation.
+     */
+    @Test
+    void deleteReservationById_shouldDeleteChildRowsWithSetBasedStatements() {
+        assertThat(repository.deleteReservationById(reservation.getId())).isEqualTo(1);
+
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(3);
+        assertThat(SqlStatementRecorder.statements("delete", "reservation_rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("delete", "reservation_users")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "reservations")).isEmpty();
+        assertThat(entityManager.find(Reservation.class, reservation.getId())).isNull();
+    }
+
+    /**
+     * Deleting a reservation that does not exist must report zero deleted rows.
+     */
+    @Test
+    void deleteReservationById_shouldReturnZero_whenReservationDoesNotExist() {
+        assertThat(repository.deleteReservationById(-1L)).isZero();
+    }
+
+    /**
+     * The room lookup must only return reservations of the room that overlap the range,
+     * in ID order and starting after the cursor.
+     */
+    @Test
+    void findByRoomId_shouldReturnOverlappingReservationsAfterCursor() {
+        Reservation overlapping = persistReservation(LocalDate.of(2024, 12, 10), LocalDate.of(2024, 12, 25), 2L);
+        persistReservation(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12), 2L);
+        persistReservation(LocalDate.of(2024, 12, 10), LocalDate.of(2024, 12, 12), 5L);
+
+        List<Reservation> firstPage = repository.findByRoomId(2L, LocalDate.of(2024, 12, 15),
+                LocalDate.of(2024, 12, 31), null, Limit.of(1));
+        List<Reservation> secondPage = repository.findByRoomId(2L, LocalDate.of(2024, 12, 15),
+                LocalDate.of(2024, 12, 31), firstPage.get(0).getId(), Limit.of(1));
+
+        assertThat(firstPage).extracting(Reservation::getId).containsExactly(reservation.getId());
+        assertThat(secondPage).extracting(Reservation::getId).containsExactly(overlapping.getId());
+        assertThat(repository.findByRoomId(2L, null, null, overlapping.getId(), Limit.of(10))).hasSize(1);
+    }
+
+    /**
+     * The range lookups must tell apart stays overlapping the range, starting within it and ending within it.
+     */
+    @Test
+    void rangeFinders_shouldMatchOverlapsArrivalsAndDepartures() {
+        Reservation arriving = persistReservation(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 5), 4L);
+        Reservation staying = persistReservation(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 10), 4L);
+        persistReservation(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 3), 4L);
+        LocalDate from = LocalDate.of(2024, 12, 15);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+
+        assertThat(repository.findOverlapping(from, to, null, Limit.of(10))).extracting(Reservation::getId)
+                .containsExactly(reservation.getId(), arriving.getId(), staying.getId());
+        assertThat(repository.findOverlapping(from, to, arriving.getId(), Limit.of(10)))
+                .extracting(Reservation::getId).containsExactly(staying.getId());
+        assertThat(repository.findArrivals(from, to, null, Limit.of(10))).extracting(Reservation::getId)
+                .containsExactly(arriving.getId());
+        assertThat(repository.findDepartures(from, to, null, Limit.of(10))).extracting(Reservation::getId)
+                .containsExactly(reservation.getId());
+    }
+
+    /**
+     * Streaming must return every reservation in ID order, with its children still loadable.
+     */
+    @Test
+    void streamAll_shouldReturnReservationsInIdOrder() {
+        Reservation second = persistReservation(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12), 4L);
+        entityManager.clear();
+
+        try (Stream<Reservation> reservations = repository.streamAll()) {
+            assertThat(reservations.toList())
+                    .extracting(Reservation::getId, r -> r.getRoomReservations().size())
+                    .containsExactly(tuple(reservation.getId(), 2), tuple(second.getId(), 1));
+        }
+    }
+
+    private Reservation persistReservation(LocalDate startDate, LocalDate endDate, Long roomId) {
+        Reservation newReservation = new Reservation();
+        newReservation.setUserId(3L);
+        newReservation.setStartDate(startDate);
+        newReservation.setEndDate(endDate);
+        newReservation.addRoomReservations(RoomReservation.builder().roomId(roomId).build());
+        return entityManager.persistAndFlush(newReservation);
+    }
+}
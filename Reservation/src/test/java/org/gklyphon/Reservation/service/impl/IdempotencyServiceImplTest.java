@@ -0,0 +1,253 @@
+package org.gklyphon.Reservation.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyInProgressException;
+import org.gklyphon.Reservation.exception.exception.IdempotencyKeyMismatchException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.models.entities.IdempotencyKey;
+import org.gklyphon.Reservation.repository.IIdempotencyKeyRepository;
+import org.hibernate.service.spi.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Persistence test for the {@code Idempotency-Key} handling of {@link IdempotencyServiceImpl}.
+ * Runs against an embedded database without a test transaction, so keys are committed as in production
+ * and can be seen from other threads and from a second service instance.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(IdempotencyServiceImpl.class)
+class IdempotencyServiceImplTest {
+
+    @Autowired
+    IdempotencyServiceImpl service;
+
+    @Autowired
+    IIdempotencyKeyRepository repository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    /**
+     * A retry with the same key and body must replay the recorded response without running the action again.
+     */
+    @Test
+    void execute_shouldReplayRecordedResponse() {
+        ResponseEntity<?> first = service.execute("key-1", Map.of("userId", 1), this::created);
+        ResponseEntity<?> retry = service.execute("key-1", Map.of("userId", 1), this::created);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getHeaders().containsKey(IdempotencyServiceImpl.REPLAYED_HEADER)).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getBody()).isEqualTo("{\"id\":1}");
+    }
+
+    /**
+     * A replayed response must carry the headers of the original one, from the cache as well as from the table.
+     */
+    @Test
+    void execute_shouldReplayRecordedHeaders() {
+        service.execute("key-11", Map.of("userId", 1), () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(URI.create("/api/v1/reservations/1"))
+                    .header("X-Room-Data-Stale", "true")
+                    .body(Map.of("id", 1));
+        });
+        IdempotencyServiceImpl otherInstance = new IdempotencyServiceImpl(
+                repository, objectMapper, Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofMinutes(5), 100);
+
+        assertThat(List.of(service.execute("key-11", Map.of("userId", 1), this::created),
+                otherInstance.execute("key-11", Map.of("userId", 1), this::created))).allSatisfy(retry -> {
+            assertThat(retry.getHeaders().getLocation()).isEqualTo(URI.create("/api/v1/reservations/1"));
+            assertThat(retry.getHeaders().getFirst("X-Room-Data-Stale")).isEqualTo("true");
+            assertThat(retry.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+        });
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * Duplicates arriving while the first request runs must wait for it and replay its response.
+     */
+    @Test
+    void execute_shouldRunActionOnce_forConcurrentDuplicates() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<?>> first = CompletableFuture.supplyAsync(() ->
+                service.execute("key-2", Map.of("userId", 1), () -> {
+                    started.countDown();
+                    await(release);
+                    return created();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ResponseEntity<?>> duplicate = CompletableFuture.supplyAsync(() ->
+                service.execute("key-2", Map.of("userId", 1), this::created));
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("{\"id\":1}");
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * Reusing a key for a different request must be rejected.
+     */
+    @Test
+    void execute_shouldRejectKeyReusedWithDifferentRequest() {
+        service.execute("key-3", Map.of("userId", 1), this::created);
+
+        assertThatThrownBy(() -> service.execute("key-3", Map.of("userId", 2), this::created))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * A failed request must release its key, so that a retry runs the action again.
+     */
+    @Test
+    void execute_shouldReleaseKey_whenActionFails() {
+        assertThatThrownBy(() -> service.execute("key-4", Map.of("userId", 1), () -> {
+            throw new ServiceException("Unexpected error while saving reservation.");
+        })).isInstanceOf(ServiceException.class);
+
+        assertThat(repository.existsById("key-4")).isFalse();
+        assertThat(service.execute("key-4", Map.of("userId", 1), this::created).getStatusCode())
+                .isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * A successful request whose body cannot be recorded must keep its key, so that a retry replays its status
+     * instead of running the action again.
+     */
+    @Test
+    void execute_shouldKeepKey_whenResponseCannotBeSerialized() {
+        ResponseEntity<?> first = service.execute("key-9", Map.of("userId", 1), () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(new Object());
+        });
+        ResponseEntity<?> retry = service.execute("key-9", Map.of("userId", 1), this::created);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getBody()).isNull();
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * A key claimed for longer than the claim timeout without a response must be reported as having an unknown
+     * outcome, and must not run the action again.
+     */
+    @Test
+    void execute_shouldRejectAbandonedClaim() {
+        repository.save(IdempotencyKey.builder()
+                .idempotencyKey("key-10")
+                .requestHash("abandoned")
+                .createdAt(LocalDateTime.now().minusMinutes(10))
+                .build());
+
+        assertThatThrownBy(() -> service.execute("key-10", Map.of("userId", 1), this::created))
+                .isInstanceOf(IdempotencyKeyInProgressException.class)
+                .hasMessageContaining("may have been processed");
+        assertThat(executions).hasValue(0);
+    }
+
+    /**
+     * Another instance, with an empty cache, must replay the response recorded in the table, and reject a key
+     * still claimed by a running request.
+     */
+    @Test
+    void execute_shouldUseTable_acrossInstances() {
+        service.execute("key-5", Map.of("userId", 1), this::created);
+        repository.save(IdempotencyKey.builder()
+                .idempotencyKey("key-6")
+                .requestHash("pending")
+                .createdAt(LocalDateTime.now())
+                .build());
+        IdempotencyServiceImpl otherInstance = new IdempotencyServiceImpl(
+                repository, objectMapper, Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofMinutes(5), 100);
+
+        assertThat(otherInstance.execute("key-5", Map.of("userId", 1), this::created).getBody())
+                .isEqualTo("{\"id\":1}");
+        assertThatThrownBy(() -> otherInstance.execute("key-6", Map.of("userId", 1), this::created))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    /**
+     * Blank keys must be rejected.
+     */
+    @Test
+    void execute_shouldRejectBlankKey() {
+        assertThatThrownBy(() -> service.execute(" ", Map.of("userId", 1), this::created))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    /**
+     * Purging must delete only the keys older than their time-to-live.
+     */
+    @Test
+    void purgeExpired_shouldDeleteOnlyExpiredKeys() {
+        service.execute("key-7", Map.of("userId", 1), this::created);
+        repository.save(IdempotencyKey.builder()
+                .idempotencyKey("key-8")
+                .requestHash("expired")
+                .responseStatus(201)
+                .responseBody("{}")
+                .createdAt(LocalDateTime.now().minusDays(2))
+                .build());
+
+        assertThat(service.purgeExpired()).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(IdempotencyKey::getIdempotencyKey).containsExactly("key-7");
+    }
+
+    private ResponseEntity<?> created() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.gklyphon.Reservation.service.impl;
+
+import org.gklyphon.Reservation.SqlStatementRecorder;
+import org.gklyphon.Reservation.mapper.IReservationMapperImpl;
+import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.models.entities.RoomReservation;
+import org.gklyphon.Reservation.models.entities.UserReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test for the reservation export of {@link ReservationServiceImpl#exportAll(java.util.function.Consumer)}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.Reservation.SqlStatementRecorder"
+})
+@Import({ReservationServiceImpl.class, OutboxServiceImpl.class, IReservationMapperImpl.class})
+class ReservationExportTest {
+
+    @Autowired
+    ReservationServiceImpl service;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    List<Reservation> reservations;
+
+    /**
+     * Persists 10 reservations, each with two rooms and one additional user.
+     */
+    @BeforeEach
+    void setUp() {
+        reservations = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> {
+                    Reservation reservation = new Reservation();
+                    reservation.setUserId((long) i);
+                    reservation.setStartDate(LocalDate.of(2024, 12, i));
+                    reservation.setEndDate(LocalDate.of(2024, 12, i + 10));
+                    reservation.addRoomReservations(RoomReservation.builder().roomId(100L + i).build());
+                    reservation.addRoomReservations(RoomReservation.builder().roomId(200L + i).build());
+                    reservation.addUserReservations(UserReservation.builder().userId(1000L + i).build());
+                    return entityManager.persist(reservation);
+                })
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Every reservation must be exported once, in ID order, with its users and rooms, and the users and rooms of
+     * the reservations must be fetched once per chunk instead of reservation by reservation.
+     */
+    @Test
+    void exportAll_shouldExportCompleteReservationsWithBatchFetchedCollections() {
+        List<String> exported = new ArrayList<>();
+
+        service.exportAll(reservation -> exported.add(reservation.getId() + ":"
+                + reservation.getUserReservations().size() + ":" + reservation.getRoomReservations().size()));
+
+        assertThat(exported).containsExactlyElementsOf(
+                reservations.stream().map(reservation -> reservation.getId() + ":1:2").toList());
+        assertThat(SqlStatementRecorder.statements("select", "reservation_users")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "reservation_rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "reservations")).hasSize(3);
+    }
+}
@@ -1,25 +1,42 @@
 package org.gklyphon.Reservation.service.impl;
 
+import jakarta.persistence.EntityManager;
 import org.gklyphon.Reservation.Data;
+import org.gklyphon.Reservation.exception.exception.ElementNotFoundException;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
 import org.gklyphon.Reservation.mapper.IReservationMapper;
+import org.gklyphon.Reservation.models.dtos.KeysetPageDTO;
 import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomReservationDTO;
+import org.gklyphon.Reservation.models.dtos.UserReservationDTO;
 import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.models.entities.RoomReservation;
+import org.gklyphon.Reservation.models.entities.UserReservation;
+import org.gklyphon.Reservation.models.entities.enums.ChangeType;
 import org.gklyphon.Reservation.repository.IReservationRepository;
+import org.gklyphon.Reservation.service.IOutboxService;
 import org.hibernate.service.spi.ServiceException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -47,9 +64,17 @@ class ReservationServiceImplTest {
     @Mock
     IReservationMapper mapper;
 
+    @Mock
+    IOutboxService outboxService;
+
+    @Mock
+    EntityManager entityManager;
+
     @InjectMocks
     ReservationServiceImpl service;
 
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 12, 1, 10, 0);
+
     /**
      * Tests deleting a reservation by its ID.
      * <p>
@@ -58,29 +83,70 @@ class ReservationServiceImplTest {
      */
     @Test
     void deleteById() {
-        doNothing().when(repository).deleteById(anyLong());
-        when(repository.findById(anyLong())).thenReturn(Optional.of(Data.RESERVATION));
+        when(repository.deleteReservationById(anyLong())).thenReturn(1);
         assertDoesNotThrow(()-> {
             service.deleteById(1L);
         });
-        verify(repository).deleteById(anyLong());
-        verify(repository).findById(anyLong());
+        verify(repository).deleteReservationById(1L);
+        verify(repository, never()).findById(anyLong());
+        verify(outboxService).record("Reservation", 1L, null, ChangeType.DELETED);
+    }
+
+    /**
+     * Tests deleting a reservation that does not exist.
+     * <p>
+     * Verifies that an {@link ElementNotFoundException} is thrown when no reservation row was deleted.
+     * </p>
+     */
+    @Test
+    void deleteById_shouldThrowElementNotFoundException_whenNotFound() {
+        when(repository.deleteReservationById(anyLong())).thenReturn(0);
+        assertThrows(ElementNotFoundException.class, () -> service.deleteById(1L));
     }
 
     /**
-     * Tests retrieving all reservations.
+     * Tests retrieving a page of reservations.
      * <p>
-     * Ensures that the list of reservations is not null and contains the expected data.
+     * Ensures that the page is not null and contains the expected data.
      * </p>
      */
     @Test
-    void findAll() {
-        when(repository.findAll()).thenReturn(Data.RESERVATIONS);
-        List<Reservation> reservations = service.findAll();
+    void findAllPageable() {
+        when(repository.findAll(any(Pageable.class))).thenReturn(Data.RESERVATION_PAGE);
+        Page<Reservation> reservations = service.findAllPageable(PageRequest.of(0, 10));
         assertNotNull(reservations);
-        assertEquals(1L, reservations.getFirst().getId());
-        assertEquals(2, reservations.getFirst().getRoomReservations().size());
-        verify(repository).findAll();
+        assertEquals(1L, reservations.getContent().getFirst().getId());
+        assertEquals(2, reservations.getContent().getFirst().getRoomReservations().size());
+        verify(repository).findAll(PageRequest.of(0, 10));
+    }
+
+    /**
+     * Tests that retrieving a page of reservations rejects a page larger than the maximum size.
+     */
+    @Test
+    void findAllPageable_shouldThrowInvalidRequestException_whenPageIsTooLarge() {
+        assertThrows(InvalidRequestException.class, () -> service.findAllPageable(PageRequest.of(0, 1000)));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Tests exporting all reservations.
+     * <p>
+     * Verifies that every streamed reservation reaches the consumer once the users and rooms of its chunk are
+     * fetched, that the persistence context is cleared and that the stream is closed.
+     * </p>
+     */
+    @Test
+    void exportAll() {
+        List<Reservation> exported = new ArrayList<>();
+        boolean[] closed = {false};
+        when(repository.streamAll()).thenReturn(Stream.of(reservation(), reservation()).onClose(() -> closed[0] = true));
+        service.exportAll(exported::add);
+        assertEquals(2, exported.size());
+        verify(repository).fetchUserReservations(anyList());
+        verify(repository).fetchRoomReservations(anyList());
+        verify(entityManager).clear();
+        assertTrue(closed[0]);
     }
 
     /**
@@ -94,7 +160,7 @@ class ReservationServiceImplTest {
         when(repository.findById(anyLong())).thenReturn(Optional.of(Data.RESERVATION));
         Reservation reservation = service.findById(1L);
         assertEquals(1L, reservation.getId());
-        assertEquals(1L, reservation.getRoomReservations().getFirst().getId());
+        assertThat(reservation.getRoomReservations()).extracting(RoomReservation::getRoomId).containsExactly(2L, 3L);
         verify(repository).findById(anyLong());
     }
 
@@ -111,6 +177,23 @@ class ReservationServiceImplTest {
         Reservation reservation = service.save(Data.RESERVATION_DTO);
         assertEquals(LocalDate.of(2024,12,3), reservation.getStartDate());
         verify(repository).save(any(Reservation.class));
+        verify(outboxService).record("Reservation", 1L, null, ChangeType.CREATED);
+    }
+
+    /**
+     * Tests creating several reservations at once.
+     * <p>
+     * Validates that the reservations are saved with a single {@code saveAll} and that each one gets an outbox event.
+     * </p>
+     */
+    @Test
+    void saveAll() {
+        when(mapper.toReservation(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<Reservation> reservations = service.saveAll(List.of(Data.RESERVATION_DTO, Data.RESERVATION_DTO));
+        assertEquals(2, reservations.size());
+        verify(repository).saveAll(anyList());
+        verify(outboxService, times(2)).record("Reservation", 1L, null, ChangeType.CREATED);
     }
 
     /**
@@ -125,6 +208,7 @@ class ReservationServiceImplTest {
         when(mapper.toReservation(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
         assertThrows(ServiceException.class, ()-> service.save(Data.RESERVATION_DTO));
         verify(repository).save(any(Reservation.class));
+        verifyNoInteractions(outboxService);
     }
 
     /**
@@ -135,14 +219,47 @@ class ReservationServiceImplTest {
      */
     @Test
     void update() {
-        when(repository.save(any(Reservation.class))).thenReturn(Data.RESERVATION);
-        when(mapper.toReservation(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
-        when(repository.findById(anyLong())).thenReturn(Optional.of(Data.RESERVATION));
+        when(repository.saveAndFlush(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findById(anyLong())).thenReturn(Optional.of(reservation()));
         Reservation reservation = service.update(1L, Data.RESERVATION_DTO);
         assertEquals(1L, reservation.getId());
         assertEquals(LocalDate.of(2024,12,3), reservation.getStartDate());
-        verify(repository).save(any(Reservation.class));
+        verify(repository).saveAndFlush(any(Reservation.class));
         verify(repository).findById(anyLong());
+        verify(mapper, never()).toReservation(any(ReservationDTO.class));
+        verify(outboxService).record("Reservation", 1L, null, ChangeType.UPDATED);
+    }
+
+    /**
+     * Tests that updating a reservation reconciles its user and room reservations by ID.
+     * <p>
+     * Verifies that removed IDs are dropped, new IDs are added once and the audit fields are preserved.
+     * </p>
+     */
+    @Test
+    void update_shouldReconcileUserAndRoomReservationsById() {
+        Reservation original = reservation();
+        when(repository.findById(anyLong())).thenReturn(Optional.of(original));
+        when(repository.saveAndFlush(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ReservationDTO reservationDTO = ReservationDTO.builder()
+                .userId(3L)
+                .startDate(LocalDate.of(2024, 12, 5))
+                .endDate(LocalDate.of(2024, 12, 18))
+                .roomReservations(List.of(
+                        RoomReservationDTO.builder().roomId(3L).build(),
+                        RoomReservationDTO.builder().roomId(4L).build(),
+                        RoomReservationDTO.builder().roomId(4L).build()))
+                .userReservations(List.of(UserReservationDTO.builder().userId(1L).build()))
+                .build();
+
+        Reservation reservation = service.update(1L, reservationDTO);
+
+        assertThat(reservation.getRoomReservations())
+                .extracting(RoomReservation::getRoomId).containsExactly(3L, 4L);
+        assertThat(reservation.getUserReservations())
+                .extracting(UserReservation::getUserId).containsExactly(1L);
+        assertEquals(LocalDate.of(2024, 12, 5), reservation.getStartDate());
+        assertEquals(CREATED_AT, reservation.getCreatedAt());
     }
 
     /**
@@ -153,11 +270,10 @@ class ReservationServiceImplTest {
      */
     @Test
     void update_shouldThrowServiceException_whenFails() {
-        doThrow(ServiceException.class).when(repository).save(any(Reservation.class));
-        when(mapper.toReservation(any(ReservationDTO.class))).thenReturn(Data.RESERVATION);
-        when(repository.findById(anyLong())).thenReturn(Optional.of(Data.RESERVATION));
+        doThrow(ServiceException.class).when(repository).saveAndFlush(any(Reservation.class));
+        when(repository.findById(anyLong())).thenReturn(Optional.of(reservation()));
         assertThrows(ServiceException.class, ()-> service.update(1L, Data.RESERVATION_DTO));
-        verify(repository).save(any(Reservation.class));
+        verify(repository).saveAndFlush(any(Reservation.class));
         verify(repository).findById(anyLong());
     }
 
@@ -205,4 +321,80 @@ class ReservationServiceImplTest {
         assertThat(reservationPage.getContent().getFirst().getUserId()).isEqualTo(3L);
         verify(repository).findByUserId(anyLong(), any(Pageable.class));
     }
+
+    /**
+     * Builds a fresh managed-like reservation with two rooms and one user, so tests that reconcile its
+     * collections do not modify the shared test data.
+     */
+    private Reservation reservation() {
+        Reservation reservation = Reservation.builder()
+                .id(1L)
+                .userId(3L)
+                .startDate(LocalDate.of(2024, 12, 3))
+                .endDate(LocalDate.of(2024, 12, 18))
+                .roomReservations(new LinkedHashSet<>(List.of(
+                        RoomReservation.builder().roomId(2L).build(),
+                        RoomReservation.builder().roomId(3L).build())))
+                .userReservations(new LinkedHashSet<>(List.of(
+                        UserReservation.builder().userId(1L).build())))
+                .build();
+        reservation.setCreatedAt(CREATED_AT);
+        return reservation;
+    }
+
+    /**
+     * Tests finding the reservations of a room with keyset pagination.
+     * <p>
+     * Verifies that one extra row is requested and that it turns into the {@code next} cursor.
+     * </p>
+     */
+    @Test
+    void findByRoomId() {
+        Reservation second = reservation();
+        second.setId(2L);
+        when(repository.findByRoomId(anyLong(), any(), any(), any(), any(Limit.class)))
+                .thenReturn(List.of(reservation(), second));
+        KeysetPageDTO<Reservation> page = service.findByRoomId(2L, null, null, null, 1);
+        assertThat(page.getContent()).extracting(Reservation::getId).containsExactly(1L);
+        assertEquals(1L, page.getNext());
+        verify(repository).findByRoomId(2L, null, null, null, Limit.of(2));
+    }
+
+    /**
+     * Tests that finding the reservations of a room rejects an inverted range and an out of bounds size.
+     */
+    @Test
+    void findByRoomId_shouldThrowInvalidRequestException_whenRequestIsInvalid() {
+        assertThrows(InvalidRequestException.class, () -> service.findByRoomId(2L,
+                LocalDate.of(2024, 12, 18), LocalDate.of(2024, 12, 3), null, 10));
+        assertThrows(InvalidRequestException.class, () -> service.findByRoomId(2L, null, null, null, 0));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Tests finding the reservations arriving within a date range with keyset pagination.
+     * <p>
+     * Verifies that the last page carries no {@code next} cursor.
+     * </p>
+     */
+    @Test
+    void findArrivals() {
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(repository.findArrivals(any(), any(), any(), any(Limit.class))).thenReturn(List.of(reservation()));
+        KeysetPageDTO<Reservation> page = service.findArrivals(from, to, null, 5);
+        assertThat(page.getContent()).extracting(Reservation::getId).containsExactly(1L);
+        assertNull(page.getNext());
+        verify(repository).findArrivals(from, to, null, Limit.of(6));
+    }
+
+    /**
+     * Tests that finding the reservations overlapping a date range rejects an inverted range.
+     */
+    @Test
+    void findOverlapping_shouldThrowInvalidRequestException_whenRangeIsInverted() {
+        assertThrows(InvalidRequestException.class, () -> service.findOverlapping(
+                LocalDate.of(2024, 12, 18), LocalDate.of(2024, 12, 3), null, 10));
+        verifyNoInteractions(repository);
+    }
 }
\ No newline at end of file
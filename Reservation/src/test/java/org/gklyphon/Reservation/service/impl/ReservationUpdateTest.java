@@ -0,0 +1,117 @@
+package org.gklyphon.Reservation.service.impl;
+
+import org.gklyphon.Reservation.SqlStatementRecorder;
+import org.gklyphon.Reservation.mapper.IReservationMapperImpl;
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomReservationDTO;
+import org.gklyphon.Reservation.models.dtos.UserReservationDTO;
+import org.gklyphon.Reservation.models.entities.Reservation;
+import org.gklyphon.Reservation.models.entities.RoomReservation;
+import org.gklyphon.Reservation.models.entities.UserReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Persistence test for the statements issued by {@link ReservationServiceImpl#update(Long, ReservationDTO)}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.Reservation.SqlStatementRecorder"
+})
+@Import({ReservationServiceImpl.class, OutboxServiceImpl.class, IReservationMapperImpl.class})
+class ReservationUpdateTest {
+
+    @Autowired
+    ReservationServiceImpl service;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    Reservation reservation;
+    LocalDateTime createdAt;
+
+    /**
+     * Persists a reservation with two rooms and one additional user.
+     */
+    @BeforeEach
+    void setUp() {
+        reservation = new Reservation();
+        reservation.setUserId(3L);
+        reservation.setStartDate(LocalDate.of(2024, 12, 3));
+        reservation.setEndDate(LocalDate.of(2024, 12, 18));
+        reservation.addRoomReservations(RoomReservation.builder().roomId(2L).build());
+        reservation.addRoomReservations(RoomReservation.builder().roomId(3L).build());
+        reservation.addUserReservations(UserReservation.builder().userId(1L).build());
+        entityManager.persistAndFlush(reservation);
+        createdAt = reservation.getCreatedAt();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Changing only the dates of a reservation must issue a single update on the reservations table, besides its
+     * outbox event, and keep its creation timestamp.
+     */
+    @Test
+    void update_shouldIssueSingleUpdate_whenOnlyDatesChange() {
+        service.update(reservation.getId(), ReservationDTO.builder()
+                .userId(3L)
+                .startDate(LocalDate.of(2024, 12, 5))
+                .endDate(LocalDate.of(2024, 12, 20))
+                .userReservations(List.of(new UserReservationDTO(1L)))
+                .roomReservations(List.of(new RoomReservationDTO(2L), new RoomReservationDTO(3L)))
+                .build());
+        entityManager.flush();
+
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(2);
+        assertThat(SqlStatementRecorder.statements("update", "reservations")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "outbox")).hasSize(1);
+        entityManager.clear();
+        Reservation updatedReservation = entityManager.find(Reservation.class, reservation.getId());
+        assertThat(updatedReservation.getStartDate()).isEqualTo(LocalDate.of(2024, 12, 5));
+        assertThat(updatedReservation.getCreatedAt()).isCloseTo(createdAt, within(1, ChronoUnit.MILLIS));
+    }
+
+    /**
+     * Replacing one room of a reservation must delete and insert exactly one row of the rooms collection table,
+     * leaving the other rows and the users untouched. The only other writes are the version increment of the
+     * reservation and its outbox event.
+     */
+    @Test
+    void update_shouldWriteOnlyTheChangedRoomRow() {
+        service.update(reservation.getId(), ReservationDTO.builder()
+                .userId(3L)
+                .startDate(LocalDate.of(2024, 12, 3))
+                .endDate(LocalDate.of(2024, 12, 18))
+                .userReservations(List.of(new UserReservationDTO(1L)))
+                .roomReservations(List.of(new RoomReservationDTO(3L), new RoomReservationDTO(4L)))
+                .build());
+        entityManager.flush();
+
+        assertThat(SqlStatementRecorder.statements("delete", "reservation_rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "reservation_rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("update", "reservations")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "outbox")).hasSize(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(4);
+        entityManager.clear();
+        assertThat(entityManager.find(Reservation.class, reservation.getId()).getRoomReservations())
+                .extracting(RoomReservation::getRoomId).containsExactlyInAnyOrder(3L, 4L);
+    }
+}
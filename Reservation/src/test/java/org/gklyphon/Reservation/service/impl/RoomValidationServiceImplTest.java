@@ -0,0 +1,324 @@
+package org.gklyphon.Reservation.service.impl;
+
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gklyphon.Reservation.client.RoomClient;
+import org.gklyphon.Reservation.exception.exception.InvalidRequestException;
+import org.gklyphon.Reservation.exception.exception.RoomNotAvailableException;
+import org.gklyphon.Reservation.exception.exception.RoomServiceUnavailableException;
+import org.gklyphon.Reservation.models.dtos.ReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomBatchResultDTO;
+import org.gklyphon.Reservation.models.dtos.RoomReservationDTO;
+import org.gklyphon.Reservation.models.dtos.RoomSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the {@link RoomValidationServiceImpl} service implementation.
+ * <p>
+ * Uses a mocked {@link RoomClient} and a manual clock to verify the batch lookups, the room cache, and the
+ * fallback to the last known state of rooms when the circuit breaker or the bulkhead rejects a call.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomValidationServiceImplTest {
+
+    @Mock
+    RoomClient roomClient;
+
+    AtomicLong clock;
+    CircuitBreaker circuitBreaker;
+    Bulkhead bulkhead;
+    SimpleMeterRegistry meterRegistry;
+    RoomValidationServiceImpl service;
+
+    /**
+     * Uses a circuit breaker opening after 2 failed calls out of 2, and a bulkhead of 1 call without waiting.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        circuitBreaker = CircuitBreaker.of("room", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build());
+        bulkhead = Bulkhead.of("room", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        service = new RoomValidationServiceImpl(roomClient, circuitBreaker, bulkhead, meterRegistry,
+                Duration.ofSeconds(30), Duration.ofMinutes(10), 100, clock::get);
+    }
+
+    /**
+     * All the distinct rooms of a reservation must be looked up with a single call.
+     */
+    @Test
+    void validateRooms_shouldLookUpAllRoomsWithSingleCall() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE"), room(2L, "AVAILABLE")));
+
+        service.validateRooms(reservation(1L, 2L, 1L));
+
+        verify(roomClient).findAllByIds(List.of(1L, 2L));
+    }
+
+    /**
+     * Rooms validated within the TTL must not be looked up again.
+     */
+    @Test
+    void validateRooms_shouldUseCache_whenRoomsWereValidatedRecently() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+
+        service.validateRooms(reservation(1L));
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        service.validateRooms(reservation(1L));
+
+        verify(roomClient, times(1)).findAllByIds(any());
+    }
+
+    /**
+     * Rooms cached for longer than the TTL must be looked up again.
+     */
+    @Test
+    void validateRooms_shouldLookUpRoomsAgain_whenCacheEntriesExpired() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+
+        service.validateRooms(reservation(1L));
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        service.validateRooms(reservation(1L));
+
+        verify(roomClient, times(2)).findAllByIds(List.of(1L));
+    }
+
+    /**
+     * Only the rooms missing from the cache must be looked up.
+     */
+    @Test
+    void validateRooms_shouldLookUpOnlyUncachedRooms() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE"), room(2L, "AVAILABLE")));
+
+        service.validateRooms(reservation(1L));
+        service.validateRooms(reservation(1L, 2L));
+
+        verify(roomClient).findAllByIds(List.of(2L));
+    }
+
+    /**
+     * A reservation for a room that does not exist must be rejected.
+     */
+    @Test
+    void validateRooms_shouldThrowInvalidRequestException_whenRoomIsMissing() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L, 2L)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("[2]");
+    }
+
+    /**
+     * A reservation for a room that is {@code NOT_AVAILABLE} must be rejected.
+     */
+    @Test
+    void validateRooms_shouldThrowRoomNotAvailableException_whenRoomIsNotAvailable() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE"), room(2L, "NOT_AVAILABLE")));
+
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L, 2L)))
+                .isInstanceOf(RoomNotAvailableException.class)
+                .hasMessageContaining("[2]");
+    }
+
+    /**
+     * A failing call to the Room service must be reported as the Room service being unavailable.
+     */
+    @Test
+    void validateRooms_shouldThrowRoomServiceUnavailableException_whenRoomServiceFails() {
+        when(roomClient.findAllByIds(any())).thenThrow(serviceUnavailable());
+
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L)))
+                .isInstanceOf(RoomServiceUnavailableException.class)
+                .hasCauseInstanceOf(FeignException.class);
+    }
+
+    /**
+     * Repeated failures must open the circuit breaker, after which the Room service is no longer called.
+     */
+    @Test
+    void validateRooms_shouldStopCallingRoomService_whenCircuitBreakerIsOpen() {
+        when(roomClient.findAllByIds(any())).thenThrow(serviceUnavailable());
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> service.validateRooms(reservation(1L)))
+                    .isInstanceOf(RoomServiceUnavailableException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(roomClient, times(2)).findAllByIds(any());
+        assertThat(fallbacks("unavailable")).isEqualTo(3);
+    }
+
+    /**
+     * While the circuit breaker is open, rooms with a last known state must be validated against it
+     * and the validation reported as stale.
+     */
+    @Test
+    void validateRooms_shouldUseLastKnownState_whenCircuitBreakerIsOpen() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+        assertThat(service.validateRooms(reservation(1L))).isFalse();
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        circuitBreaker.transitionToOpenState();
+
+        assertThat(service.validateRooms(reservation(1L))).isTrue();
+
+        verify(roomClient, times(1)).findAllByIds(any());
+        assertThat(fallbacks("stale")).isEqualTo(1);
+    }
+
+    /**
+     * The last known state of a room must still be checked, so a room last seen {@code NOT_AVAILABLE}
+     * cannot be booked while the Room service is unreachable.
+     */
+    @Test
+    void validateRooms_shouldThrowRoomNotAvailableException_whenLastKnownStateIsNotAvailable() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "NOT_AVAILABLE")));
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L)))
+                .isInstanceOf(RoomNotAvailableException.class);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L)))
+                .isInstanceOf(RoomNotAvailableException.class);
+    }
+
+    /**
+     * A last known state older than the maximum staleness must not be used.
+     */
+    @Test
+    void validateRooms_shouldThrowRoomServiceUnavailableException_whenLastKnownStateIsTooOld() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+        service.validateRooms(reservation(1L));
+        clock.addAndGet(Duration.ofMinutes(10).toNanos());
+        circuitBreaker.transitionToOpenState();
+
+        assertThatThrownBy(() -> service.validateRooms(reservation(1L)))
+                .isInstanceOf(RoomServiceUnavailableException.class);
+        assertThat(fallbacks("unavailable")).isEqualTo(1);
+    }
+
+    /**
+     * A call rejected by a full bulkhead must fall back to the last known state without being recorded
+     * as a failure by the circuit breaker.
+     */
+    @Test
+    void validateRooms_shouldUseLastKnownState_whenBulkheadIsFull() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+        service.validateRooms(reservation(1L));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        bulkhead.acquirePermission();
+        try {
+            assertThat(service.validateRooms(reservation(1L))).isTrue();
+        } finally {
+            bulkhead.onComplete();
+        }
+
+        verify(roomClient, times(1)).findAllByIds(any());
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    /**
+     * A successful probe in the half-open state must close the circuit breaker and refresh the cache.
+     */
+    @Test
+    void validateRooms_shouldCloseCircuitBreaker_whenHalfOpenProbeSucceeds() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        assertThat(service.validateRooms(reservation(1L))).isFalse();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        service.validateRooms(reservation(1L));
+        verify(roomClient, times(1)).findAllByIds(any());
+    }
+
+    /**
+     * Rooms validated against current data must not use the fallback.
+     */
+    @Test
+    void validateRooms_shouldNotUseFallback_whenRoomServiceAnswers() {
+        when(roomClient.findAllByIds(any())).thenReturn(batch(room(1L, "AVAILABLE")));
+
+        assertThat(service.validateRooms(reservation(1L))).isFalse();
+
+        assertThat(fallbacks("stale")).isZero();
+        assertThat(fallbacks("unavailable")).isZero();
+    }
+
+    /**
+     * A reservation without rooms must not call the Room service.
+     */
+    @Test
+    void validateRooms_shouldNotCallRoomService_whenReservationHasNoRooms() {
+        assertThatCode(() -> service.validateRooms(reservation())).doesNotThrowAnyException();
+        verify(roomClient, never()).findAllByIds(any());
+    }
+
+    private ReservationDTO reservation(Long... roomIds) {
+        return ReservationDTO.builder()
+                .roomReservations(Arrays.stream(roomIds)
+                        .map(roomId -> RoomReservationDTO.builder().roomId(roomId).build())
+                        .toList())
+                .build();
+    }
+
+    private RoomSummaryDTO room(Long id, String roomState) {
+        return new RoomSummaryDTO(id, roomState);
+    }
+
+    private RoomBatchResultDTO batch(RoomSummaryDTO... rooms) {
+        Map<Long, RoomSummaryDTO> found = new HashMap<>();
+        Arrays.stream(rooms).forEach(room -> found.put(room.getId(), room));
+        return new RoomBatchResultDTO(found, List.of());
+    }
+
+    private FeignException serviceUnavailable() {
+        Request request = Request.create(Request.HttpMethod.GET, "/rooms/batch", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return new FeignException.ServiceUnavailable("Service Unavailable", request, null, Map.of());
+    }
+
+    private double fallbacks(String outcome) {
+        return meterRegistry.get("room.validation.fallback").tag("outcome", outcome).counter().count();
+    }
+}
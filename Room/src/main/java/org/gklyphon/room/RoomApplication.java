@@ -3,6 +3,7 @@ package org.gklyphon.room;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * @author JFCiscoHuerta
@@ -10,6 +11,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  * @since 25-Nov-2024
  */
 @EnableFeignClients
+@EnableScheduling
 @SpringBootApplication
 public class RoomApplication {
 
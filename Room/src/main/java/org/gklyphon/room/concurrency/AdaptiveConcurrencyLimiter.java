@@ -0,0 +1,84 @@
+package org.gklyphon.room.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits requests of one route group while fewer than the current {@link GradientLimit} are in flight.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final GradientLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Creates a limiter for a route group.
+     *
+     * @param name the name of the route group
+     * @param limit the limit of the route group
+     */
+    public AdaptiveConcurrencyLimiter(String name, GradientLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /**
+     * Admits a request if the limit allows it.
+     *
+     * @return a permit to release once the request completes, or empty if the request must be rejected
+     */
+    public Optional<Permit> tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > limit.getLimit()) {
+            inFlight.decrementAndGet();
+            return Optional.empty();
+        }
+        return Optional.of(new Permit(current, System.nanoTime()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * An admitted request, releasing its slot and feeding its latency to the limit when it completes.
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the slot of the request. Only the first call has an effect.
+         *
+         * @param dropped whether the request failed because the service was overloaded
+         */
+        public void release(boolean dropped) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.gklyphon.room.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.room.exception.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Servlet filter applying an adaptive concurrency limit per route group.
+ *
+ * <p>Each group of {@link ConcurrencyLimitProperties} gets an {@link AdaptiveConcurrencyLimiter} whose limit
+ * follows the latency of the requests of the group. Requests over the limit are rejected before reaching
+ * security or the controllers, with a 503 status and a {@code Retry-After} header, instead of queueing for
+ * server threads and database connections. Requests completing asynchronously, such as streamed exports,
+ * hold their slot until the response is complete.</p>
+ *
+ * <p>For each group, the current limit, the requests in flight and the rejected requests are published as the
+ * {@code http.server.concurrency.limit}, {@code http.server.concurrency.in.flight} and
+ * {@code http.server.concurrency.rejected} metrics, tagged with the group name.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final List<RouteGroup> routeGroups;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000));
+        this.routeGroups = properties.getGroups().entrySet().stream()
+                .map(entry -> routeGroup(entry.getKey(), entry.getValue(), meterRegistry))
+                .toList();
+    }
+
+    /**
+     * Returns the limiter of each route group, in declaration order.
+     *
+     * @return the limiters of the route groups
+     */
+    public List<AdaptiveConcurrencyLimiter> getLimiters() {
+        return routeGroups.stream().map(RouteGroup::limiter).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteGroup routeGroup = resolve(request);
+        if (routeGroup == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = routeGroup.limiter().tryAcquire();
+        if (permit.isEmpty()) {
+            routeGroup.rejected().increment();
+            reject(response, routeGroup.limiter());
+            return;
+        }
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit.get()));
+            } else {
+                permit.get().release(!completed || isOverloaded(response.getStatus()));
+            }
+        }
+    }
+
+    private RouteGroup resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RouteGroup routeGroup : routeGroups) {
+            if (routeGroup.matches(request.getMethod(), path, pathMatcher)) {
+                return routeGroup;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        log.debug("Rejected a request of {}: {} requests in flight for a limit of {}.",
+                limiter.getName(), limiter.getInFlight(), limiter.getLimit());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("The service is overloaded, retry later.", HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private static boolean isOverloaded(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private static RouteGroup routeGroup(String name, ConcurrencyLimitProperties.Group group,
+                                         MeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, new GradientLimit(
+                group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(),
+                group.getSmoothing(), group.getTolerance(), group.getLongWindow()));
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the route group")
+                .tag("group", name)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests of the route group currently in flight")
+                .tag("group", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("http.server.concurrency.rejected")
+                .description("Requests of the route group rejected by the concurrency limit")
+                .tag("group", name)
+                .register(meterRegistry);
+        return new RouteGroup(limiter, group.getMethods(), group.getPaths(), group.getExcludedPaths(), rejected);
+    }
+
+    /**
+     * A route group with its limiter and rejection counter.
+     */
+    private record RouteGroup(AdaptiveConcurrencyLimiter limiter, List<String> methods, List<String> paths,
+                              List<String> excludedPaths, Counter rejected) {
+
+        boolean matches(String method, String path, PathMatcher pathMatcher) {
+            return (methods.isEmpty() || methods.stream().anyMatch(method::equalsIgnoreCase))
+                    && paths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path))
+                    && excludedPaths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+        }
+    }
+
+    /**
+     * Releases the permit of an asynchronous request once its response is complete.
+     */
+    private record PermitReleasingListener(AdaptiveConcurrencyLimiter.Permit permit) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permit.release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.gklyphon.room.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit derived from the observed latency, following the gradient algorithm.
+ *
+ * <p>Every completed request updates a long-term average of its round-trip time. The ratio between that
+ * average and the latest sample is the gradient: when requests slow down, it drops below 1 and shrinks the
+ * limit; when latency is stable, the limit grows by a small queue allowance (the square root of the limit)
+ * so that it keeps probing for more capacity. Changes are smoothed and clamped between a minimum and a
+ * maximum. Failed requests back the limit off directly.</p>
+ *
+ * <p>Instances are thread-safe. Updates are guarded by a {@link ReentrantLock} rather than a monitor, so that
+ * virtual threads waiting for it are not pinned to their carrier. Each update publishes the resulting limit
+ * to a volatile field, so reading it, which every request does, never takes the lock.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class GradientLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longWindowWeight;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double estimatedLimit;
+    private double longRttNanos;
+    private volatile int limit;
+
+    /**
+     * Creates a limit starting at {@code initialLimit}.
+     *
+     * @param initialLimit the limit used until latency has been observed
+     * @param minLimit the lowest limit the algorithm can reach
+     * @param maxLimit the highest limit the algorithm can reach
+     * @param smoothing the weight of a new estimate in the limit, between 0 and 1
+     * @param tolerance how much slower than the long-term average a request can be before the limit shrinks
+     * @param longWindow the number of samples averaged in the long-term round-trip time
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+                         int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindowWeight = 2.0 / (longWindow + 1);
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return the maximum number of requests allowed in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Updates the limit with a completed request.
+     *
+     * @param rttNanos the round-trip time of the request, in nanoseconds
+     * @param inFlight the number of requests in flight when the request started
+     * @param dropped whether the request failed because the service was overloaded
+     */
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped) {
+                estimatedLimit = clamp(estimatedLimit * BACKOFF_RATIO);
+                return;
+            }
+            long rtt = Math.max(1, rttNanos);
+            if (longRttNanos == 0) {
+                longRttNanos = rtt;
+            } else {
+                longRttNanos += (rtt - longRttNanos) * longWindowWeight;
+            }
+            // After a long slow period the average lags behind recovered latency; let it catch up quickly.
+            if (longRttNanos / rtt > 2) {
+                longRttNanos = longRttNanos * 0.95;
+            }
+            // Requests well below the limit say nothing about the capacity of the service.
+            if (inFlight < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+        } finally {
+            limit = (int) estimatedLimit;
+            lock.unlock();
+        }
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,160 @@
+package org.gklyphon.room.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the priority admission, bound from the {@code priority-admission} properties.
+ *
+ * <p>Requests are classified by the first route matching their method and path, or by the priority header
+ * when one is configured and sent. Each {@link PriorityClass} has its own bounded queue and its own
+ * shedding thresholds.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "priority-admission")
+public class PriorityAdmissionProperties {
+
+    /**
+     * Whether requests go through priority admission at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of requests processed at the same time. Further requests wait in the queue of their class.
+     */
+    private int maxConcurrent = 150;
+
+    /**
+     * The delay sent in the {@code Retry-After} header of shed requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * How long a CPU load sample is reused before the load is sampled again.
+     */
+    private Duration cpuSampleInterval = Duration.ofSeconds(1);
+
+    /**
+     * The request header from which trusted internal callers can set the priority class of a request,
+     * or {@code null} to ignore any such header. It is only read from requests carrying the internal token.
+     */
+    private String priorityHeader;
+
+    /**
+     * The request header carrying the shared secret of internal callers.
+     */
+    private String internalTokenHeader = "X-Internal-Token";
+
+    /**
+     * The shared secret of internal callers, or {@code null} to ignore the priority header of every request.
+     */
+    private String internalToken;
+
+    /**
+     * The priority class of requests matching no route.
+     */
+    private PriorityClass defaultPriority = PriorityClass.STANDARD;
+
+    /**
+     * The routes, in matching order.
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * The queue and shedding settings of the {@link PriorityClass#CRITICAL} class.
+     */
+    private ClassSettings critical = new ClassSettings(200, Duration.ofSeconds(2), Double.MAX_VALUE, Double.MAX_VALUE);
+
+    /**
+     * The queue and shedding settings of the {@link PriorityClass#STANDARD} class.
+     */
+    private ClassSettings standard = new ClassSettings(100, Duration.ofSeconds(1), 0.9, 0.75);
+
+    /**
+     * The queue and shedding settings of the {@link PriorityClass#SHEDDABLE} class.
+     */
+    private ClassSettings sheddable = new ClassSettings(50, Duration.ofMillis(500), 0.8, 0.5);
+
+    /**
+     * Returns the settings of a priority class.
+     *
+     * @param priorityClass the priority class
+     * @return the queue and shedding settings of the class
+     */
+    public ClassSettings settings(PriorityClass priorityClass) {
+        return switch (priorityClass) {
+            case CRITICAL -> critical;
+            case STANDARD -> standard;
+            case SHEDDABLE -> sheddable;
+        };
+    }
+
+    /**
+     * Requests of a priority class, by method and path.
+     */
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * The priority class of the matching requests.
+         */
+        private PriorityClass priority;
+
+        /**
+         * The HTTP methods of the route, or every method when empty.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * The path patterns of the route, such as {@code /rooms/create}.
+         */
+        private List<String> paths = new ArrayList<>();
+    }
+
+    /**
+     * Queue and shedding settings of a priority class.
+     */
+    @Getter
+    @Setter
+    public static class ClassSettings {
+
+        /**
+         * The number of requests of the class that can wait for a slot.
+         */
+        private int queueCapacity;
+
+        /**
+         * How long a request of the class waits for a slot before being shed.
+         */
+        private Duration maxWait;
+
+        /**
+         * The CPU load, between 0 and 1, from which requests of the class are shed without queueing.
+         */
+        private double cpuShedThreshold;
+
+        /**
+         * The share of all queue capacity in use, between 0 and 1, from which requests of the class are shed
+         * without queueing.
+         */
+        private double queueShedThreshold;
+
+        public ClassSettings(int queueCapacity, Duration maxWait, double cpuShedThreshold, double queueShedThreshold) {
+            this.queueCapacity = queueCapacity;
+            this.maxWait = maxWait;
+            this.cpuShedThreshold = cpuShedThreshold;
+            this.queueShedThreshold = queueShedThreshold;
+        }
+    }
+}
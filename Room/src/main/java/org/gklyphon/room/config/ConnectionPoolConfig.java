@@ -0,0 +1,38 @@
+package org.gklyphon.room.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Tunes the connection pools when {@code datasource.pool.tuning.enabled} is set, as done by the
+ * {@code performance} profile: sizes them with a {@link HikariPoolSizer} and reports their saturation through
+ * the {@code connectionPool} health indicator, part of the readiness group.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.pool.tuning.enabled", havingValue = "true")
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static HikariPoolSizer hikariPoolSizer(@Value("${datasource.pool.io-wait-ratio:1.0}") double ioWaitRatio,
+                                                  @Value("${datasource.pool.max-size:50}") int maxSize) {
+        return new HikariPoolSizer(Runtime.getRuntime().availableProcessors(), ioWaitRatio, maxSize);
+    }
+
+    @Bean
+    public ConnectionPoolHealthIndicator connectionPoolHealthIndicator(
+            Map<String, HikariDataSource> dataSources,
+            @Value("${datasource.pool.saturation.pending-threshold:10}") int pendingThreshold,
+            @Value("${datasource.pool.saturation.sustain:5s}") Duration sustain) {
+        return new ConnectionPoolHealthIndicator(dataSources, pendingThreshold, sustain);
+    }
+}
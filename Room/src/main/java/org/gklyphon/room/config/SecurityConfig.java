@@ -24,9 +24,13 @@ public class SecurityConfig {
     // List of public endpoints that are allowed without authentication.
     private static final String[] PUBLIC_ENDPOINTS = {"/rooms/**", "/rooms/features/**"};
 
+    // Health endpoints readable without authentication, for probes and load balancers.
+    private static final String[] ACTUATOR_ENDPOINTS = {"/actuator/health/**"};
+
     /**
      * Configures the security filter chain to specify access rules for different HTTP requests.
-     * - GET, POST, PUT, DELETE requests for specified public endpoints are permitted without authentication.
+     * - GET, POST, PUT, PATCH, DELETE requests for specified public endpoints are permitted without authentication.
+     * - GET requests for the health endpoints are permitted without authentication; other actuator endpoints are not.
      * - Configures CORS with allowed origins, headers, and methods.
      * - Disables CSRF protection.
      *
@@ -41,7 +45,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, PUBLIC_ENDPOINTS).permitAll()
                         .requestMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS).permitAll()
                         .requestMatchers(HttpMethod.PUT, PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(HttpMethod.PATCH, PUBLIC_ENDPOINTS).permitAll()
                         .requestMatchers(HttpMethod.DELETE, PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(HttpMethod.GET, ACTUATOR_ENDPOINTS).permitAll()
                 )
 
                 .cors( (cors) -> cors
@@ -55,7 +61,7 @@ public class SecurityConfig {
     /**
      * Configures the CORS (Cross-Origin Resource Sharing) settings for the application.
      * - Allows requests from "http://localhost:4200".
-     * - Allows all headers and specifies allowed HTTP methods (GET, POST, PUT, DELETE).
+     * - Allows all headers and specifies allowed HTTP methods (GET, POST, PUT, PATCH, DELETE).
      * - Sets the max age for preflight requests.
      *
      * @return a {@link CorsConfigurationSource} object containing the CORS configuration.
@@ -65,7 +71,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Collections.singletonList("http://localhost:4200"));
         configuration.setAllowedHeaders(Collections.singletonList("*"));
-        configuration.setAllowedMethods(List.of("GET","POST","PUT","DELETE"));
+        configuration.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -1,11 +1,17 @@
 package org.gklyphon.room.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.gklyphon.room.model.dtos.RoomPatchDTO;
 import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionsDTO;
+import org.gklyphon.room.model.dtos.RoomStateUpdateDTO;
 import org.gklyphon.room.model.entities.Room;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
+import org.gklyphon.room.service.IIdempotencyService;
 import org.gklyphon.room.service.IRoomService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,10 +20,15 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Controller responsible for handling all HTTP requests related to rooms.
@@ -26,9 +37,15 @@ import java.math.BigDecimal;
  * <p>This controller exposes the following endpoints:</p>
  * <ul>
  *     <li>GET /rooms: Retrieve all rooms, with pagination.</li>
+ *     <li>GET /rooms/export: Stream every room with its features and images as newline-delimited JSON.</li>
  *     <li>GET /rooms/{id}: Retrieve a room by its ID.</li>
+ *     <li>GET /rooms/batch: Retrieve several rooms by their IDs.</li>
  *     <li>POST /rooms/create: Create a new room.</li>
  *     <li>PUT /rooms/update/{id}: Update an existing room by its ID.</li>
+ *     <li>PATCH /rooms/{id}/state: Change the state of an existing room.</li>
+ *     <li>PATCH /rooms/{id}: Partially update an existing room.</li>
+ *     <li>POST /rooms/state-transitions: Apply several room state transitions at once.</li>
+ *     <li>POST /rooms/reprice: Reprice every room matching a filter.</li>
  *     <li>DELETE /rooms/delete/{id}: Delete a room by its ID.</li>
  *     <li>GET /rooms/price-by-night-between: Retrieve rooms with a price between a given range.</li>
  *     <li>GET /rooms/price-by-night-greater-than: Retrieve rooms with a price greater than the given value.</li>
@@ -49,6 +66,8 @@ public class RoomController {
 
     private final IRoomService roomService;
     private final PagedResourcesAssembler<Room> pagedResourcesAssembler;
+    private final ObjectMapper objectMapper;
+    private final IIdempotencyService idempotencyService;
 
     /**
      * Retrieves a paginated list of rooms.
@@ -66,6 +85,28 @@ public class RoomController {
                 handlePageModels(roomService.findAllPageable(pageable)));
     }
 
+    /**
+     * Exports every room, with its features and images, as newline-delimited JSON.
+     * Rooms are written to the response as they are read from the database, so the export
+     * does not hold the whole catalog in memory.
+     *
+     * @return a ResponseEntity streaming one JSON room per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> roomService.exportAll(room -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(room));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Retrieves a room by its ID.
      *
@@ -77,15 +118,39 @@ public class RoomController {
         return ResponseEntity.ok(roomService.findById(id));
     }
 
+    /**
+     * Retrieves several rooms by their IDs with a single lookup.
+     *
+     * @param ids the IDs of the rooms, at most 100
+     * @return a ResponseEntity containing the rooms found, keyed by ID, and the IDs that match no room
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(roomService.findAllByIds(ids));
+    }
+
     /**
      * Creates a new room.
+     * <p>
+     * When an {@code Idempotency-Key} header is sent, retries with the same key and body replay the first
+     * response instead of creating the room again.
+     * </p>
      *
+     * @param idempotencyKey the optional idempotency key of the request
      * @param roomRegisterDTO the data transfer object containing room details
      * @return a ResponseEntity containing the created room
      */
     @PostMapping("/create")
     public ResponseEntity<?> createRoom(
+            @RequestHeader(name = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody RoomRegisterDTO roomRegisterDTO) {
+        if (idempotencyKey == null) {
+            return saveRoom(roomRegisterDTO);
+        }
+        return idempotencyService.execute(idempotencyKey, roomRegisterDTO, () -> saveRoom(roomRegisterDTO));
+    }
+
+    private ResponseEntity<?> saveRoom(RoomRegisterDTO roomRegisterDTO) {
         Room room = roomService.save(roomRegisterDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(room);
     }
@@ -105,6 +170,59 @@ public class RoomController {
         return ResponseEntity.ok(room);
     }
 
+    /**
+     * Changes the state of an existing room.
+     *
+     * @param id the ID of the room to update
+     * @param roomStateUpdateDTO the data transfer object containing the new room state
+     * @return a ResponseEntity with no content (HTTP status 204)
+     */
+    @PatchMapping("/{id}/state")
+    public ResponseEntity<?> updateRoomState(
+            @PathVariable Long id,
+            @Valid @RequestBody RoomStateUpdateDTO roomStateUpdateDTO) {
+        roomService.updateRoomState(id, roomStateUpdateDTO.getRoomState());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Partially updates an existing room. Only the fields present in the body are modified.
+     *
+     * @param id the ID of the room to update
+     * @param roomPatchDTO the data transfer object containing the fields to update
+     * @return a ResponseEntity with no content (HTTP status 204)
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchRoom(
+            @PathVariable Long id,
+            @Valid @RequestBody RoomPatchDTO roomPatchDTO) {
+        roomService.patch(id, roomPatchDTO);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Applies a set of compare-and-set room state transitions in one transaction.
+     *
+     * @param roomStateTransitionsDTO the data transfer object containing the transitions to apply
+     * @return a ResponseEntity containing the outcome of each transition
+     */
+    @PostMapping("/state-transitions")
+    public ResponseEntity<?> transitionRoomStates(
+            @Valid @RequestBody RoomStateTransitionsDTO roomStateTransitionsDTO) {
+        return ResponseEntity.ok(roomService.transitionRoomStates(roomStateTransitionsDTO.getTransitions()));
+    }
+
+    /**
+     * Reprices every room matching the filter with a single set-based update.
+     *
+     * @param roomRepriceDTO the filter and the price operation to apply
+     * @return a ResponseEntity containing the number of repriced rooms
+     */
+    @PostMapping("/reprice")
+    public ResponseEntity<?> repriceRooms(@Valid @RequestBody RoomRepriceDTO roomRepriceDTO) {
+        return ResponseEntity.ok(roomService.reprice(roomRepriceDTO));
+    }
+
     /**
      * Deletes a room by its ID.
      *
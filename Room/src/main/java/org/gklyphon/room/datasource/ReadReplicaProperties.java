@@ -0,0 +1,107 @@
+package org.gklyphon.room.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the read replicas, bound from the {@code read-replicas} properties.
+ *
+ * <p>When enabled, read-only transactions are sent to the replicas, and every other transaction to the primary
+ * configured by the {@code spring.datasource} properties.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are sent to the replicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How a replica is chosen for a read-only transaction.
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * How long the reads of a client go to the primary after it wrote, so that it reads its own writes despite the
+     * replication lag.
+     */
+    private Duration stickyPrimaryWindow = Duration.ofSeconds(5);
+
+    /**
+     * The request header identifying a client. Clients without one are identified by their IP address.
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * How long a replica that failed to give a connection is skipped.
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+
+    /**
+     * How long a read-only transaction waits for a replica connection before falling back to the primary.
+     * Kept short so that a replica that is down does not stall reads for the connection timeout of the primary.
+     */
+    private Duration connectionTimeout = Duration.ofMillis(500);
+
+    /**
+     * The replicas.
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * How a replica is chosen.
+     */
+    public enum Selection {
+
+        /**
+         * Each replica in turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * The replica with the fewest connections in use.
+         */
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * A replica. Its pool copies the settings of the primary pool, except for the URL, credentials, driver and
+     * connection timeout.
+     */
+    @Getter
+    @Setter
+    public static class Node {
+
+        /**
+         * The JDBC URL of the replica.
+         */
+        private String url;
+
+        /**
+         * The user name on the replica, or {@code null} to use the one of the primary.
+         */
+        private String username;
+
+        /**
+         * The password on the replica, or {@code null} to use the one of the primary.
+         */
+        private String password;
+
+        /**
+         * The JDBC driver of the replica, or {@code null} to derive it from the URL.
+         */
+        private String driverClassName;
+    }
+}
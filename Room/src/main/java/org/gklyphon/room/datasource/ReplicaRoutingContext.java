@@ -0,0 +1,34 @@
+package org.gklyphon.room.datasource;
+
+/**
+ * Holds, for the current thread, whether read-only transactions must go to the primary instead of a replica.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Sends the read-only transactions of the current thread to the primary until {@link #clear()} is called.
+     */
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Lets the read-only transactions of the current thread go to the replicas again.
+     */
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
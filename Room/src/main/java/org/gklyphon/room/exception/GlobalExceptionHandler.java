@@ -1,9 +1,13 @@
 package org.gklyphon.room.exception;
 
 import org.gklyphon.room.exception.custom.ElementNotFoundException;
+import org.gklyphon.room.exception.custom.IdempotencyKeyInProgressException;
+import org.gklyphon.room.exception.custom.IdempotencyKeyMismatchException;
+import org.gklyphon.room.exception.custom.InvalidRequestException;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,8 +20,9 @@ import java.util.Map;
  * Global exception handler to manage exceptions in the entire application.
  *
  * <p>This class handles different types of exceptions globally, providing custom error responses
- * for {@link ElementNotFoundException}, {@link MethodArgumentNotValidException}, {@link ServiceException},
- * and a generic {@link Exception}.</p>
+ * for {@link ElementNotFoundException}, {@link InvalidRequestException}, reused idempotency keys,
+ * {@link HttpMessageNotReadableException},
+ * {@link MethodArgumentNotValidException}, {@link ServiceException}, and a generic {@link Exception}.</p>
  *
  * <p>Each exception is caught and returned with a custom {@link ErrorResponse} that includes a message and
  * an appropriate HTTP status code.</p>
@@ -41,6 +46,55 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles {@link InvalidRequestException} and returns a custom error response with a 400 status code.
+     *
+     * @param e the {@link InvalidRequestException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles {@link IdempotencyKeyMismatchException} and returns a custom error response with a 422 status code.
+     *
+     * @param e the {@link IdempotencyKeyMismatchException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 422 status code
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+        return ResponseEntity.unprocessableEntity().body(errorResponse);
+    }
+
+    /**
+     * Handles {@link IdempotencyKeyInProgressException} and returns a custom error response with a 409 status code.
+     *
+     * @param e the {@link IdempotencyKeyInProgressException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 409 status code
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link HttpMessageNotReadableException} (malformed body or unknown enum value) and returns a custom
+     * error response with a 400 status code.
+     *
+     * @param e the {@link HttpMessageNotReadableException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+        ErrorResponse errorResponse = new ErrorResponse("Malformed request body", HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handles {@link MethodArgumentNotValidException} (validation errors) and returns a map of field errors
      * with a 400 status code.
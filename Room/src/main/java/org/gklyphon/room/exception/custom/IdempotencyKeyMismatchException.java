@@ -0,0 +1,21 @@
+package org.gklyphon.room.exception.custom;
+
+/**
+ * Exception thrown when an {@code Idempotency-Key} is reused with a request different from the one
+ * it was first sent with.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link IdempotencyKeyMismatchException} with the specified detail message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     */
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package org.gklyphon.room.model.dtos;
+
+import lombok.*;
+import org.gklyphon.room.model.entities.Room;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) holding the rooms found by a batch lookup, keyed by ID, and the requested IDs
+ * that match no room.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomBatchDTO {
+
+    /**
+     * The rooms found, keyed by ID, in the order they were requested.
+     */
+    private Map<Long, Room> rooms;
+
+    /**
+     * The requested IDs that match no room, in the order they were requested.
+     */
+    private List<Long> missingIds;
+}
@@ -0,0 +1,43 @@
+package org.gklyphon.room.model.dtos;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for partially updating a room.
+ * Only the fields that are not {@code null} are written; images and features are not affected.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomPatchDTO {
+
+    /**
+     * The new room number, must be a positive value when provided.
+     */
+    @Min(value = 1)
+    private Long roomNumber;
+
+    /**
+     * The new price per night, must be zero or a positive value when provided.
+     */
+    @PositiveOrZero
+    private BigDecimal priceByNight;
+
+    /**
+     * The new type of the room.
+     */
+    private RoomType roomType;
+
+    /**
+     * The new state of the room.
+     */
+    private RoomState roomState;
+}
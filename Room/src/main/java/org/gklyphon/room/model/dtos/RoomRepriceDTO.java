@@ -0,0 +1,76 @@
+package org.gklyphon.room.model.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object (DTO) for repricing every room that matches a filter.
+ * Filter fields left as {@code null} do not restrict the selection.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomRepriceDTO {
+
+    /**
+     * Operations that can be applied to the price per night.
+     */
+    public enum PriceOperation {
+        /** Replaces the price with the given value. */
+        SET,
+        /** Increases (or decreases, when negative) the price by the given percentage. */
+        PERCENTAGE,
+        /** Adds the given amount to the price, which may be negative. */
+        DELTA
+    }
+
+    /**
+     * Only rooms of this type are repriced.
+     */
+    private RoomType roomType;
+
+    /**
+     * Only rooms in this state are repriced.
+     */
+    private RoomState roomState;
+
+    /**
+     * Only rooms with a price per night greater than or equal to this value are repriced.
+     */
+    @PositiveOrZero
+    private BigDecimal minPrice;
+
+    /**
+     * Only rooms with a price per night less than or equal to this value are repriced.
+     */
+    @PositiveOrZero
+    private BigDecimal maxPrice;
+
+    /**
+     * The operation to apply to the price per night.
+     */
+    @NotNull
+    private PriceOperation operation;
+
+    /**
+     * The operand of the operation: the new price, the percentage or the amount to add.
+     */
+    @NotNull
+    private BigDecimal value;
+
+    /**
+     * The number of decimals the resulting price is rounded to, half-up. Defaults to 2.
+     */
+    @Min(value = 0)
+    @Max(value = 2)
+    private Integer scale;
+}
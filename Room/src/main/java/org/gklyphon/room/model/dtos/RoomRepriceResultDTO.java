@@ -0,0 +1,19 @@
+package org.gklyphon.room.model.dtos;
+
+import lombok.*;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a bulk repricing.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomRepriceResultDTO {
+
+    /**
+     * The number of rooms whose price per night was rewritten.
+     */
+    private int affectedRooms;
+}
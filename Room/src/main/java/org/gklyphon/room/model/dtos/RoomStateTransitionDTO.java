@@ -0,0 +1,38 @@
+package org.gklyphon.room.model.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.RoomState;
+
+/**
+ * Data Transfer Object (DTO) describing a single room state transition.
+ * The transition is only applied if the room is currently in {@code fromState} (compare-and-set).
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomStateTransitionDTO {
+
+    /**
+     * The ID of the room to transition.
+     * This field is required.
+     */
+    @NotNull
+    private Long roomId;
+
+    /**
+     * The state the room is expected to be in.
+     * This field is required.
+     */
+    @NotNull
+    private RoomState fromState;
+
+    /**
+     * The state the room is moved to.
+     * This field is required.
+     */
+    @NotNull
+    private RoomState toState;
+}
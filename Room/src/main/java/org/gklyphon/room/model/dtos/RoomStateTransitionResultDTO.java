@@ -0,0 +1,36 @@
+package org.gklyphon.room.model.dtos;
+
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.RoomState;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a single room state transition.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomStateTransitionResultDTO {
+
+    /**
+     * The ID of the room.
+     */
+    private Long roomId;
+
+    /**
+     * The state the room was expected to be in.
+     */
+    private RoomState fromState;
+
+    /**
+     * The state the room was moved to.
+     */
+    private RoomState toState;
+
+    /**
+     * Whether the transition was applied. It is {@code false} when the room does not exist
+     * or was not in {@code fromState}.
+     */
+    private boolean applied;
+}
@@ -0,0 +1,29 @@
+package org.gklyphon.room.model.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for applying several room state transitions in one request.
+ * This class is used by housekeeping sweeps, for example when many rooms move to cleaning at checkout time.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomStateTransitionsDTO {
+
+    /**
+     * The transitions to apply. Each room may appear only once.
+     * This field cannot be empty and accepts at most 1000 transitions.
+     */
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid @NotNull RoomStateTransitionDTO> transitions;
+}
@@ -0,0 +1,24 @@
+package org.gklyphon.room.model.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.RoomState;
+
+/**
+ * Data Transfer Object (DTO) for changing the state of a room.
+ * This class is used by housekeeping to move a room between states without sending the full room.
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomStateUpdateDTO {
+
+    /**
+     * The new state of the room.
+     * This field is required.
+     */
+    @NotNull
+    private RoomState roomState;
+}
@@ -0,0 +1,78 @@
+package org.gklyphon.room.model.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.gklyphon.room.model.entities.enums.ChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a change to an entity, written to the {@code outbox} table in the same transaction as the change
+ * itself and published afterwards by the outbox relay.
+ *
+ * <p>Events are never modified once written, except for {@code claimedUntil}, which is set while a relay is
+ * publishing them, and {@code publishedAt}, which is set when the relay has handed them to every sink. Published
+ * events are purged after a retention period.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox",
+        indexes = @Index(name = "idx_outbox_published_at_id", columnList = "published_at, id"))
+public class OutboxEvent {
+
+    /**
+     * The unique identifier for the event. Also gives the order in which events were recorded.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The type of the changed entity, such as {@code Room}.
+     */
+    @Column(nullable = false)
+    private String aggregateType;
+
+    /**
+     * The ID of the changed entity.
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * The version of the entity after the change, or {@code null} for deletions.
+     */
+    private Long aggregateVersion;
+
+    /**
+     * The kind of change.
+     */
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType changeType;
+
+    /**
+     * The date and time when the change was recorded.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * The date and time until which a relay has claimed the event to publish it, or {@code null} if no relay has.
+     * Other relays skip the event until then, and take it over if it is still pending afterwards.
+     */
+    private LocalDateTime claimedUntil;
+
+    /**
+     * The date and time when the event was published, or {@code null} while it is pending.
+     */
+    private LocalDateTime publishedAt;
+}
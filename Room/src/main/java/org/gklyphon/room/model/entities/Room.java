@@ -9,7 +9,9 @@ import org.gklyphon.room.model.entities.enums.RoomType;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a room in the system with various attributes such as room number, price,
@@ -60,6 +62,14 @@ public class Room extends Auditable {
     @Enumerated(value = EnumType.STRING)
     private RoomState roomState;
 
+    /**
+     * The version of the room, incremented on every change and used for optimistic locking.
+     * Also identifies the state of the room carried by its outbox events.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * A list of images associated with the room.
      */
@@ -67,7 +77,10 @@ public class Room extends Auditable {
     private List<RoomImage> roomImages;
 
     /**
-     * A list of additional features or services available in the room.
+     * A set of additional features or services available in the room.
+     *
+     * <p>Mapped as a {@link Set} so Hibernate maintains the join table incrementally, inserting or deleting only
+     * the rows that changed instead of re-creating the whole collection like it does for bags.</p>
      */
     @ManyToMany
     @JoinTable(
@@ -76,14 +89,15 @@ public class Room extends Auditable {
             inverseJoinColumns = @JoinColumn(name = "room_feature_id"),
             uniqueConstraints = @UniqueConstraint(columnNames = {"room_id", "room_feature_id"})
     )
-    private List<RoomFeature> roomFeatures;
+    @OrderBy("id")
+    private Set<RoomFeature> roomFeatures;
 
     /**
-     * Default constructor initializing lists for room images and additional features.
+     * Default constructor initializing the collections for room images and additional features.
      */
     public Room() {
         this.roomImages = new ArrayList<>();
-        this.roomFeatures = new ArrayList<>();
+        this.roomFeatures = new LinkedHashSet<>();
     }
 
     /**
@@ -0,0 +1,59 @@
+package org.gklyphon.room.outbox;
+
+import org.gklyphon.room.model.entities.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link OutboxEventSink} posting each batch of events as a JSON array to an HTTP webhook.
+ *
+ * <p>Only active when {@code outbox.webhook.url} is set. A response other than 2xx, or a timeout,
+ * fails the batch so it is relayed again.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.webhook.url")
+public class WebhookOutboxSink implements OutboxEventSink {
+
+    private final RestClient restClient;
+
+    /**
+     * Builds the client used to call the webhook.
+     *
+     * @param builder the auto-configured {@link RestClient} builder
+     * @param url the URL of the webhook
+     * @param timeout the connect and read timeout of each call
+     */
+    public WebhookOutboxSink(RestClient.Builder builder,
+                             @Value("${outbox.webhook.url}") String url,
+                             @Value("${outbox.webhook.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = builder.baseUrl(url).requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Posts the events to the webhook.
+     *
+     * @param events the events, in the order they were recorded
+     */
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
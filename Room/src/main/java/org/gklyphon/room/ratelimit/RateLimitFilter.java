@@ -0,0 +1,164 @@
+package org.gklyphon.room.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.room.exception.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter rate limiting each client, identified by its API key when the key is one of the configured
+ * {@code rate-limit.api-keys} and by its IP address otherwise, on the routes of the {@link RateLimitProperties} rules.
+ *
+ * <p>Runs first, so that scrapers over their limit take neither admission slots nor concurrency permits.
+ * Limited responses carry the {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and
+ * {@code X-RateLimit-Reset} headers, the last one in seconds until the bucket of the client is full again.
+ * Requests over the limit are rejected with a 429 status and a {@code Retry-After} header.</p>
+ *
+ * <p>For each rule, the rejected requests and the tracked clients are published as the
+ * {@code http.server.rate.limit.rejected} and {@code http.server.rate.limit.clients} metrics, tagged with the
+ * rule name.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final List<Rule> rules;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final ObjectMapper objectMapper;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.apiKeys = Set.copyOf(properties.getApiKeys());
+        this.rules = properties.getRules().entrySet().stream()
+                .map(entry -> rule(new RateLimiter(entry.getKey(), entry.getValue(), properties.getMaxClients(),
+                        System::nanoTime), meterRegistry))
+                .toList();
+    }
+
+    /**
+     * Returns the limiter of each rule, in declaration order.
+     *
+     * @return the limiters of the rules
+     */
+    public List<RateLimiter> getLimiters() {
+        return rules.stream().map(Rule::limiter).toList();
+    }
+
+    /**
+     * Evicts the buckets that refilled completely, so that clients which went away are not tracked forever.
+     */
+    @Scheduled(fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void evictFullBuckets() {
+        rules.forEach(rule -> rule.limiter().evictFull());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Rule rule = resolve(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TokenBucket.Consumption consumption = rule.limiter().tryConsume(client(request));
+        response.setHeader(LIMIT_HEADER, String.valueOf(rule.limiter().getCapacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(consumption.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(consumption.resetNanos())));
+        if (!consumption.allowed()) {
+            rule.rejected().increment();
+            reject(response, rule.limiter(), consumption);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : rules) {
+            if (rule.matches(request.getMethod(), path, pathMatcher)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String client(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, RateLimiter limiter, TokenBucket.Consumption consumption)
+            throws IOException {
+        log.debug("Rejected a request over the {} rate limit.", limiter.getName());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(consumption.retryAfterNanos())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Too many requests, retry later.", HttpStatus.TOO_MANY_REQUESTS));
+    }
+
+    private static long toSeconds(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L);
+    }
+
+    private static Rule rule(RateLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder("http.server.rate.limit.clients", limiter, RateLimiter::getTrackedClients)
+                .description("Clients tracked by the rate limit rule")
+                .tag("rule", limiter.getName())
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("http.server.rate.limit.rejected")
+                .description("Requests rejected by the rate limit rule")
+                .tag("rule", limiter.getName())
+                .register(meterRegistry);
+        return new Rule(limiter, rejected);
+    }
+
+    /**
+     * A rule with its limiter and rejection counter.
+     */
+    private record Rule(RateLimiter limiter, Counter rejected) {
+
+        boolean matches(String method, String path, PathMatcher pathMatcher) {
+            RateLimitProperties.Rule rule = limiter.getRule();
+            return (rule.getMethods().isEmpty() || rule.getMethods().stream().anyMatch(method::equalsIgnoreCase))
+                    && rule.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.gklyphon.room.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration of the per-client rate limits, bound from the {@code rate-limit} properties.
+ *
+ * <p>Each rule limits the requests of every client to the matching routes. A request is limited by the first
+ * matching rule only, in declaration order.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests are rate limited at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The request header carrying the API key of a client. Clients without a known key are identified by their IP
+     * address.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * The API keys issued to clients. A key that is not in this set is ignored, so that a client cannot get a new
+     * bucket by sending a new key.
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * The maximum number of clients tracked per rule. Beyond it, the clients tracked for the longest time are
+     * evicted, whatever tokens they have left.
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * The rules, by name.
+     */
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    /**
+     * A rate limit applying to every client on a set of routes.
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * The HTTP methods of the rule, or every method when empty.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * The path patterns of the rule, such as {@code /rooms/price-by-night-*}.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * The number of requests a client can send in a burst.
+         */
+        private int capacity = 20;
+
+        /**
+         * The number of requests per second a client can sustain.
+         */
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,120 @@
+package org.gklyphon.room.ratelimit;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits the clients of one rule, with a {@link TokenBucket} per client.
+ *
+ * <p>Taking a token costs a map lookup and a compare-and-set on the bucket of the client. At most
+ * {@code maxClients} clients are tracked: when a new client goes over that number, the buckets tracked for the
+ * longest time are evicted right away, whatever tokens they have left. Buckets that refilled completely are also
+ * evicted by {@link #evictFull()}, which runs on a schedule. A client coming back after its bucket refilled and was
+ * evicted gets a full bucket, exactly what it would have had.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final RateLimitProperties.Rule rule;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Queue<Tracked> trackingOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * Creates a limiter for a rule.
+     *
+     * @param name the name of the rule
+     * @param rule the limits of the rule
+     * @param maxClients the maximum number of tracked clients, beyond which the oldest ones are evicted
+     * @param nanoClock the source of the current time, in nanoseconds
+     */
+    public RateLimiter(String name, RateLimitProperties.Rule rule, int maxClients, LongSupplier nanoClock) {
+        this.name = name;
+        this.rule = rule;
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes a token from the bucket of a client.
+     *
+     * @param client the API key or IP address of the client
+     * @return the outcome, with the tokens left and the time until the bucket is full again
+     */
+    public TokenBucket.Consumption tryConsume(String client) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(client);
+        if (bucket == null) {
+            TokenBucket created = new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now);
+            bucket = buckets.putIfAbsent(client, created);
+            if (bucket == null) {
+                bucket = created;
+                trackingOrder.add(new Tracked(client, created));
+                evictOldest();
+            }
+        }
+        return bucket.tryConsume(now);
+    }
+
+    /**
+     * Evicts the buckets that refilled completely. Does nothing if another thread is already evicting.
+     */
+    public void evictFull() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = nanoClock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            trackingOrder.removeIf(tracked -> buckets.get(tracked.client()) != tracked.bucket());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Evicts the buckets tracked for the longest time until at most {@code maxClients} clients are tracked.
+     * A bucket already evicted, or replaced since, is skipped.
+     */
+    private void evictOldest() {
+        while (buckets.size() > maxClients) {
+            Tracked oldest = trackingOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            buckets.remove(oldest.client(), oldest.bucket());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitProperties.Rule getRule() {
+        return rule;
+    }
+
+    public int getCapacity() {
+        return rule.getCapacity();
+    }
+
+    public int getTrackedClients() {
+        return buckets.size();
+    }
+
+    /**
+     * A client with the bucket created for it, in the order clients started to be tracked.
+     */
+    private record Tracked(String client, TokenBucket bucket) {
+    }
+}
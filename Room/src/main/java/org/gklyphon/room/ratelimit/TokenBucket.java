@@ -0,0 +1,87 @@
+package org.gklyphon.room.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket of one client, implemented as a generic cell rate algorithm.
+ *
+ * <p>The whole state is the theoretical arrival time of the next request, updated with a compare-and-set, so
+ * concurrent requests of a client never block each other and requests of different clients never touch the
+ * same memory. A bucket whose theoretical arrival time has passed is full, and can be dropped without losing
+ * anything.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity the number of requests that can be sent in a burst
+     * @param refillPerSecond the number of requests per second that can be sustained
+     * @param nowNanos the current time, in nanoseconds
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos the current time, in nanoseconds
+     * @return the outcome, with the tokens left and the time until the bucket is full again
+     */
+    public Consumption tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long backlog = next - nowNanos;
+            if (backlog > burstNanos) {
+                long backlogBefore = Math.max(0, current - nowNanos);
+                return new Consumption(false, remaining(backlogBefore), backlogBefore, backlog - burstNanos);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return new Consumption(true, remaining(backlog), backlog, 0);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket refilled completely, in which case it holds no state worth keeping.
+     *
+     * @param nowNanos the current time, in nanoseconds
+     * @return whether the bucket is full
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int remaining(long backlogNanos) {
+        return (int) Math.max(0, (burstNanos - backlogNanos) / emissionIntervalNanos);
+    }
+
+    /**
+     * The outcome of taking a token.
+     *
+     * @param allowed whether a token was taken
+     * @param remaining the tokens left
+     * @param resetNanos the time until the bucket is full again, in nanoseconds
+     * @param retryAfterNanos the time until a token is available when none was taken, in nanoseconds
+     */
+    public record Consumption(boolean allowed, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
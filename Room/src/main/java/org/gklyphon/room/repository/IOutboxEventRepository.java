@@ -0,0 +1,74 @@
+package org.gklyphon.room.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.gklyphon.room.model.entities.OutboxEvent;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link OutboxEvent} entities.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IOutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks and returns the oldest pending events that no relay has claimed, or whose claim has expired.
+     * Rows already locked by another relay are skipped ({@code FOR UPDATE SKIP LOCKED}), so several instances
+     * can claim batches concurrently without claiming the same event twice or waiting on each other.
+     *
+     * @param now the current date and time, claims expiring before it are ignored
+     * @param limit the maximum number of events to return
+     * @return the pending events, in the order they were recorded
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)
+            ORDER BY e.id""")
+    List<OutboxEvent> findPendingForUpdate(LocalDateTime now, Limit limit);
+
+    /**
+     * Marks events as published with a single statement.
+     *
+     * @param ids the IDs of the published events
+     * @param publishedAt the date and time of the publication
+     * @return the number of updated events
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+
+    /**
+     * Releases the claim on events that could not be published, so that the next relay run retries them.
+     *
+     * @param ids the IDs of the events
+     * @return the number of updated events
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int releaseClaims(Collection<Long> ids);
+
+    /**
+     * Deletes the events published before the given threshold with a single statement.
+     *
+     * @param threshold the instant before which published events are deleted
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :threshold")
+    int deletePublishedBefore(LocalDateTime threshold);
+}
@@ -2,6 +2,8 @@ package org.gklyphon.room.repository;
 
 import org.gklyphon.room.model.entities.RoomFeature;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * Repository interface for accessing and managing {@link RoomFeature} entities.
@@ -14,4 +16,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @since 25-Nov-2024
  */
 public interface IRoomFeatureRepository extends JpaRepository<RoomFeature, Long> {
+
+    /**
+     * Deletes a room feature with a single {@code DELETE} statement, without loading the entity.
+     * The associations of the feature with rooms must be deleted beforehand.
+     *
+     * @param id the ID of the room feature to delete
+     * @return the number of deleted rows, {@code 0} if the room feature does not exist
+     */
+    @Modifying
+    @Query("DELETE FROM RoomFeature f WHERE f.id = :id")
+    int deleteRoomFeatureById(Long id);
+
+    /**
+     * Deletes every association of a room feature from the {@code room_additional_features} join table
+     * with a single {@code DELETE} statement. The rooms themselves are kept.
+     *
+     * @param roomFeatureId the ID of the room feature whose associations are deleted
+     * @return the number of deleted associations
+     */
+    @Modifying
+    @Query(value = "DELETE FROM room_additional_features WHERE room_feature_id = :roomFeatureId", nativeQuery = true)
+    int deleteRoomAssociationsByRoomFeatureId(Long roomFeatureId);
 }
@@ -1,13 +1,22 @@
 package org.gklyphon.room.repository;
 
+import jakarta.persistence.QueryHint;
 import org.gklyphon.room.model.entities.Room;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing and managing {@link Room} entities.
@@ -21,6 +30,16 @@ import java.math.BigDecimal;
  */
 public interface IRoomRepository extends JpaRepository<Room, Long> {
 
+    /**
+     * The ID and version of a room, read after a bulk update to record its outbox event.
+     */
+    interface RoomVersion {
+
+        Long getId();
+
+        Long getVersion();
+    }
+
     /**
      * Finds rooms with a nightly price greater than the specified value.
      *
@@ -76,4 +95,187 @@ public interface IRoomRepository extends JpaRepository<Room, Long> {
      * @return a page of rooms of the specified type and state
      */
     Page<Room> findByRoomTypeAndRoomState(RoomType roomType, RoomState roomState, Pageable pageable);
+
+    /**
+     * Deletes a room with a single {@code DELETE} statement, without loading the entity.
+     * Hibernate removes the rows of the {@code room_additional_features} join table owned by the room with one
+     * extra statement; the images of the room must be deleted beforehand.
+     *
+     * @param id the ID of the room to delete
+     * @return the number of deleted rows, {@code 0} if the room does not exist
+     */
+    @Modifying
+    @Query("DELETE FROM Room r WHERE r.id = :id")
+    int deleteRoomById(Long id);
+
+    /**
+     * Deletes every image of a room with a single {@code DELETE} statement.
+     *
+     * @param roomId the ID of the room whose images are deleted
+     * @return the number of deleted images
+     */
+    @Modifying
+    @Query("DELETE FROM RoomImage i WHERE i.room.id = :roomId")
+    int deleteRoomImagesByRoomId(Long roomId);
+
+    /**
+     * Changes the state of a room with a single {@code UPDATE} statement, without loading the entity.
+     *
+     * @param id the ID of the room to update
+     * @param roomState the new room state
+     * @param updatedAt the modification timestamp to store
+     * @return the number of updated rows, {@code 0} if the room does not exist
+     */
+    @Modifying
+    @Query("UPDATE Room r SET r.roomState = :roomState, r.updatedAt = :updatedAt, r.version = r.version + 1 WHERE r.id = :id")
+    int updateRoomState(Long id, RoomState roomState, LocalDateTime updatedAt);
+
+    /**
+     * Returns the version of a room without loading the entity.
+     * Used after a bulk update of the room, inside the same transaction, to record its outbox event.
+     *
+     * @param id the ID of the room
+     * @return the version of the room, or {@code null} if the room does not exist
+     */
+    @Query("SELECT r.version FROM Room r WHERE r.id = :id")
+    Long findVersionById(Long id);
+
+    /**
+     * Partially updates a room with a single {@code UPDATE} statement, without loading the entity.
+     * Every {@code null} argument keeps the current column value.
+     *
+     * @param id the ID of the room to update
+     * @param roomNumber the new room number, or {@code null} to keep the current one
+     * @param priceByNight the new price per night, or {@code null} to keep the current one
+     * @param roomType the new room type, or {@code null} to keep the current one
+     * @param roomState the new room state, or {@code null} to keep the current one
+     * @param updatedAt the modification timestamp to store
+     * @return the number of updated rows, {@code 0} if the room does not exist
+     */
+    @Modifying
+    @Query("""
+            UPDATE Room r SET
+                r.roomNumber = COALESCE(:roomNumber, r.roomNumber),
+                r.priceByNight = COALESCE(:priceByNight, r.priceByNight),
+                r.roomType = COALESCE(:roomType, r.roomType),
+                r.roomState = COALESCE(:roomState, r.roomState),
+                r.updatedAt = :updatedAt,
+                r.version = r.version + 1
+            WHERE r.id = :id""")
+    int patchRoom(Long id, Long roomNumber, BigDecimal priceByNight, RoomType roomType, RoomState roomState,
+                  LocalDateTime updatedAt);
+
+    /**
+     * Moves every listed room that is currently in {@code fromState} to {@code toState} with a single
+     * conditional {@code UPDATE}. Rooms in any other state are left untouched.
+     *
+     * @param ids the IDs of the rooms to transition
+     * @param fromState the state the rooms are expected to be in
+     * @param toState the new room state
+     * @param updatedAt the modification timestamp to store
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE Room r SET r.roomState = :toState, r.updatedAt = :updatedAt, r.version = r.version + 1
+            WHERE r.id IN :ids AND r.roomState = :fromState""")
+    int transitionRoomStates(Collection<Long> ids, RoomState fromState, RoomState toState, LocalDateTime updatedAt);
+
+    /**
+     * Finds which of the given rooms are in the given state and carry the given modification timestamp.
+     * Used inside the transaction of {@link #transitionRoomStates} to tell which rooms were actually updated,
+     * and with which version.
+     *
+     * @param ids the IDs of the rooms to check
+     * @param roomState the room state to match
+     * @param updatedAt the modification timestamp to match
+     * @return the IDs and versions of the matching rooms
+     */
+    @Query("""
+            SELECT r.id AS id, r.version AS version FROM Room r
+            WHERE r.id IN :ids AND r.roomState = :roomState AND r.updatedAt = :updatedAt""")
+    List<RoomVersion> findVersionsByRoomStateAndUpdatedAt(Collection<Long> ids, RoomState roomState,
+                                                          LocalDateTime updatedAt);
+
+    /**
+     * Reprices every room matching the filter with a single {@code UPDATE}. The new price is
+     * {@code priceByNight * multiplier + delta}, floored at zero and rounded half-up to {@code scale} decimals.
+     * Every {@code null} filter argument matches all rooms. The multiplier is cast explicitly because otherwise it
+     * would be bound with the scale of the price column and lose its fractional digits.
+     *
+     * @param roomType the room type to match, or {@code null}
+     * @param roomState the room state to match, or {@code null}
+     * @param minPrice the inclusive lower bound of the current price, or {@code null}
+     * @param maxPrice the inclusive upper bound of the current price, or {@code null}
+     * @param multiplier the factor applied to the current price
+     * @param delta the amount added to the multiplied price
+     * @param scale the number of decimals of the new price
+     * @param updatedAt the modification timestamp to store
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE Room r SET
+                r.priceByNight = CASE
+                    WHEN r.priceByNight * CAST(:multiplier AS BigDecimal(19, 8)) + :delta < 0 THEN 0
+                    ELSE ROUND(r.priceByNight * CAST(:multiplier AS BigDecimal(19, 8)) + :delta, :scale) END,
+                r.updatedAt = :updatedAt,
+                r.version = r.version + 1
+            WHERE (:roomType IS NULL OR r.roomType = :roomType)
+                AND (:roomState IS NULL OR r.roomState = :roomState)
+                AND (:minPrice IS NULL OR r.priceByNight >= :minPrice)
+                AND (:maxPrice IS NULL OR r.priceByNight <= :maxPrice)""")
+    int reprice(RoomType roomType, RoomState roomState, BigDecimal minPrice, BigDecimal maxPrice,
+                BigDecimal multiplier, BigDecimal delta, int scale, LocalDateTime updatedAt);
+
+    /**
+     * Finds the rooms of the given type and state that carry the given modification timestamp.
+     * Used inside the transaction of {@link #reprice} to tell which rooms were repriced, and with which version,
+     * since the price filter no longer matches once the prices changed.
+     *
+     * @param roomType the room type to match, or {@code null}
+     * @param roomState the room state to match, or {@code null}
+     * @param updatedAt the modification timestamp to match
+     * @return the IDs and versions of the matching rooms
+     */
+    @Query("""
+            SELECT r.id AS id, r.version AS version FROM Room r
+            WHERE r.updatedAt = :updatedAt
+                AND (:roomType IS NULL OR r.roomType = :roomType)
+                AND (:roomState IS NULL OR r.roomState = :roomState)""")
+    List<RoomVersion> findVersionsByUpdatedAt(RoomType roomType, RoomState roomState, LocalDateTime updatedAt);
+
+    /**
+     * Loads the rooms with the given IDs, and their images, with a single query.
+     *
+     * @param ids the IDs of the rooms
+     * @return the rooms found, with their images
+     */
+    @Query("SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.roomImages WHERE r.id IN :ids")
+    List<Room> fetchRoomImages(Collection<Long> ids);
+
+    /**
+     * Loads the features of the rooms with the given IDs with a single query. Rooms already in the
+     * persistence context get their {@code roomFeatures} initialized.
+     *
+     * @param ids the IDs of the rooms
+     * @return the rooms found, with their features
+     */
+    @Query("SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.roomFeatures WHERE r.id IN :ids")
+    List<Room> fetchRoomFeatures(Collection<Long> ids);
+
+    /**
+     * Streams every room in ID order.
+     * Rows are read through a forward-only cursor in batches of the JDBC fetch size instead of being loaded
+     * all at once, and the rooms are loaded read-only since they are not meant to be modified.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a {@link Stream} of all rooms
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Room r ORDER BY r.id")
+    Stream<Room> streamAll();
 }
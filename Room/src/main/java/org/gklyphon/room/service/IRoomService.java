@@ -1,6 +1,12 @@
 package org.gklyphon.room.service;
 
+import org.gklyphon.room.model.dtos.RoomBatchDTO;
+import org.gklyphon.room.model.dtos.RoomPatchDTO;
 import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceResultDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionResultDTO;
 import org.gklyphon.room.model.entities.Room;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
@@ -8,6 +14,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing {@link Room} entities.
@@ -93,4 +102,52 @@ public interface IRoomService extends IService<Room> {
      * @return the updated room
      */
     Room update(Long id, RoomRegisterDTO roomRegisterDTO);
+
+    /**
+     * Changes the state of an existing room without loading or rewriting the rest of the room.
+     *
+     * @param id the id of the room to update
+     * @param roomState the new state of the room
+     */
+    void updateRoomState(Long id, RoomState roomState);
+
+    /**
+     * Partially updates an existing room, writing only the fields provided in the {@link RoomPatchDTO}.
+     *
+     * @param id the id of the room to update
+     * @param roomPatchDTO the DTO containing the fields to update
+     */
+    void patch(Long id, RoomPatchDTO roomPatchDTO);
+
+    /**
+     * Applies a set of compare-and-set room state transitions in one transaction.
+     *
+     * @param transitions the transitions to apply, at most one per room
+     * @return the outcome of each transition, in the order they were requested
+     */
+    List<RoomStateTransitionResultDTO> transitionRoomStates(List<RoomStateTransitionDTO> transitions);
+
+    /**
+     * Reprices every room matching the filter of the {@link RoomRepriceDTO} with a single set-based update.
+     *
+     * @param roomRepriceDTO the DTO containing the filter and the price operation
+     * @return the number of repriced rooms
+     */
+    RoomRepriceResultDTO reprice(RoomRepriceDTO roomRepriceDTO);
+
+    /**
+     * Hands every room, in ID order and with its features and images, to the given consumer
+     * without holding the whole catalog in memory.
+     *
+     * @param consumer the consumer receiving each room
+     */
+    void exportAll(Consumer<Room> consumer);
+
+    /**
+     * Finds the rooms with the given IDs with a single query, reporting the IDs that match no room.
+     *
+     * @param ids the IDs of the rooms, at most {@code 100} distinct ones
+     * @return the rooms found, keyed by ID, and the missing IDs
+     */
+    RoomBatchDTO findAllByIds(Collection<Long> ids);
 }
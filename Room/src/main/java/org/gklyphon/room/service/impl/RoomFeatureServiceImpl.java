@@ -62,15 +62,20 @@ public class RoomFeatureServiceImpl implements IRoomFeatureService {
     /**
      * Deletes a room feature by its id.
      *
+     * <p>The feature is not loaded: its associations with rooms are removed with one set-based statement and
+     * the feature row is then deleted directly, using the number of deleted rows to detect a missing feature.</p>
+     *
      * @param id the id of the room feature to delete
+     * @throws ElementNotFoundException if the room feature with the specified id is not found
      * @throws ServiceException if an unexpected error occurs during deletion
      */
     @Override
     @Transactional
     public void delete(Long id) {
         try {
-            if (findById(id) != null) {
-                featureRepository.deleteById(id);
+            featureRepository.deleteRoomAssociationsByRoomFeatureId(id);
+            if (featureRepository.deleteRoomFeatureById(id) == 0) {
+                throw new ElementNotFoundException("Room Feature with id: " + id + " not found.");
             }
         } catch (ElementNotFoundException e) {
             throw e;
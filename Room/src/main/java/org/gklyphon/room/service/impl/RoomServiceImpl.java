@@ -1,16 +1,27 @@
 package org.gklyphon.room.service.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.gklyphon.room.exception.custom.ElementNotFoundException;
+import org.gklyphon.room.exception.custom.InvalidRequestException;
 import org.gklyphon.room.mapper.IRoomMapper;
+import org.gklyphon.room.model.dtos.RoomBatchDTO;
+import org.gklyphon.room.model.dtos.RoomImageRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomPatchDTO;
 import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceResultDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionResultDTO;
 import org.gklyphon.room.model.entities.Room;
 import org.gklyphon.room.model.entities.RoomFeature;
 import org.gklyphon.room.model.entities.RoomImage;
+import org.gklyphon.room.model.entities.enums.ChangeType;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
 import org.gklyphon.room.repository.IRoomFeatureRepository;
 import org.gklyphon.room.repository.IRoomRepository;
+import org.gklyphon.room.service.IOutboxService;
 import org.gklyphon.room.service.IRoomService;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
@@ -21,8 +32,21 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link IRoomService} interface for handling {@link Room} entities.
@@ -33,9 +57,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RoomServiceImpl implements IRoomService {
 
+    private static final String AGGREGATE_TYPE = "Room";
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final int DEFAULT_PRICE_SCALE = 2;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_IDS = 100;
+
     private final IRoomRepository repository;
     private final IRoomFeatureRepository featureRepository;
     private final IRoomMapper mapper;
+    private final IOutboxService outboxService;
+    private final EntityManager entityManager;
 
     /**
      * Finds rooms with a price range between the specified minimum and maximum price per night.
@@ -120,16 +152,23 @@ public class RoomServiceImpl implements IRoomService {
     /**
      * Deletes a room by its ID.
      *
+     * <p>The room is not loaded: its images are removed with one set-based statement and the room row is then
+     * deleted directly, along with its feature associations, using the number of deleted rows to detect a missing
+     * room. A {@code DELETED} outbox event is recorded in the same transaction.</p>
+     *
      * @param id the ID of the room to be deleted
+     * @throws ElementNotFoundException if the room with the specified ID is not found
      * @throws ServiceException if an unexpected error occurs during deletion
      */
     @Override
     @Transactional
     public void delete(Long id) {
         try {
-            if (findById(id) != null) {
-                repository.deleteById(id);
+            repository.deleteRoomImagesByRoomId(id);
+            if (repository.deleteRoomById(id) == 0) {
+                throw new ElementNotFoundException("Room with id: " + id + " not found.");
             }
+            outboxService.record(AGGREGATE_TYPE, id, null, ChangeType.DELETED);
         } catch (ElementNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -137,6 +176,31 @@ public class RoomServiceImpl implements IRoomService {
         }
     }
 
+    /**
+     * Hands every room, in ID order and with its features and images, to the given consumer.
+     * <p>
+     * Rooms are read through a database stream and handed over in chunks of {@link #EXPORT_CHUNK_SIZE}:
+     * the features and images of a chunk are batch fetched as the consumer reads them, and the persistence
+     * context is cleared once the chunk is consumed, so memory use does not grow with the catalog.
+     * </p>
+     *
+     * @param consumer the consumer receiving each room
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Room> consumer) {
+        List<Room> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Room> rooms = repository.streamAll()) {
+            rooms.forEach(room -> {
+                chunk.add(room);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exportChunk(chunk, consumer);
+                }
+            });
+        }
+        exportChunk(chunk, consumer);
+    }
+
     /**
      * Finds all rooms with pagination.
      *
@@ -164,7 +228,55 @@ public class RoomServiceImpl implements IRoomService {
     }
 
     /**
-     * Saves a new room based on the provided {@link RoomRegisterDTO}.
+     * Finds the rooms with the given IDs with a single {@code IN} query, instead of one query per room.
+     *
+     * <p>The rooms are loaded with their images, then their features are loaded with a second query, so the
+     * lookup issues two queries whatever the number of rooms, instead of one per room and collection while the
+     * response is serialized. Duplicate IDs are looked up once.</p>
+     *
+     * @param ids the IDs of the rooms, at most {@value #MAX_BATCH_IDS} distinct ones
+     * @return the rooms found, keyed by ID, and the missing IDs, both in the order they were requested
+     * @throws InvalidRequestException if no ID or more than {@value #MAX_BATCH_IDS} distinct IDs are requested
+     * @throws ServiceException if an unexpected error occurs while retrieving the rooms
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RoomBatchDTO findAllByIds(Collection<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        requestedIds.remove(null);
+        if (requestedIds.isEmpty() || requestedIds.size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("Between 1 and " + MAX_BATCH_IDS + " room ids must be requested.");
+        }
+
+        try {
+            Map<Long, Room> foundRooms = repository.fetchRoomImages(requestedIds).stream()
+                    .collect(Collectors.toMap(Room::getId, Function.identity()));
+            if (!foundRooms.isEmpty()) {
+                repository.fetchRoomFeatures(foundRooms.keySet());
+            }
+
+            Map<Long, Room> rooms = new LinkedHashMap<>();
+            List<Long> missingIds = new ArrayList<>();
+            for (Long id : requestedIds) {
+                Room room = foundRooms.get(id);
+                if (room == null) {
+                    missingIds.add(id);
+                } else {
+                    rooms.put(id, room);
+                }
+            }
+            return RoomBatchDTO.builder()
+                    .rooms(rooms)
+                    .missingIds(missingIds)
+                    .build();
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while retrieving rooms", e);
+        }
+    }
+
+    /**
+     * Saves a new room based on the provided {@link RoomRegisterDTO}
+     * and records a {@code CREATED} outbox event in the same transaction.
      *
      * @param roomRegisterDTO the data transfer object containing room details
      * @return the saved room entity
@@ -180,7 +292,9 @@ public class RoomServiceImpl implements IRoomService {
             List<RoomImage> roomImages = handleRoomImages(roomRegisterDTO, room);
 
             room.setRoomImages(roomImages);
-            return repository.save(room);
+            Room savedRoom = repository.save(room);
+            outboxService.record(AGGREGATE_TYPE, savedRoom.getId(), savedRoom.getVersion(), ChangeType.CREATED);
+            return savedRoom;
         } catch (ElementNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -190,6 +304,8 @@ public class RoomServiceImpl implements IRoomService {
 
     /**
      * Updates an existing room by its ID using the provided {@link RoomRegisterDTO}.
+     * The room is flushed so that the {@code UPDATED} outbox event recorded in the same transaction
+     * carries the incremented version.
      *
      * @param id the ID of the room to be updated
      * @param roomRegisterDTO the data transfer object containing the updated room details
@@ -202,16 +318,15 @@ public class RoomServiceImpl implements IRoomService {
         try {
             Room originalRoom = findById(id);
             Room room = mapper.toRoom(roomRegisterDTO);
-            BeanUtils.copyProperties(room, originalRoom,"id", "roomFeatures", "roomImages");
+            BeanUtils.copyProperties(room, originalRoom,
+                    "id", "version", "createdAt", "updatedAt", "roomFeatures", "roomImages");
 
-            handleRoomFeatures(roomRegisterDTO, originalRoom);
-            List<RoomImage> roomImages = handleRoomImages(roomRegisterDTO, originalRoom);
+            reconcileRoomFeatures(roomRegisterDTO, originalRoom);
+            reconcileRoomImages(roomRegisterDTO, originalRoom);
 
-            originalRoom.setRoomImages(new ArrayList<>(originalRoom.getRoomImages()));
-            originalRoom.getRoomImages().clear();
-            originalRoom.getRoomImages().addAll(roomImages);
-
-            return repository.save(originalRoom);
+            Room updatedRoom = repository.saveAndFlush(originalRoom);
+            outboxService.record(AGGREGATE_TYPE, id, updatedRoom.getVersion(), ChangeType.UPDATED);
+            return updatedRoom;
         } catch (ElementNotFoundException e) {
             throw e;
         } catch (DataIntegrityViolationException e) {
@@ -236,6 +351,225 @@ public class RoomServiceImpl implements IRoomService {
         return roomImages;
     }
 
+    /**
+     * Changes the state of an existing room with a single targeted {@code UPDATE}, and records its outbox event
+     * with the version read back in the same transaction.
+     *
+     * @param id the ID of the room to be updated
+     * @param roomState the new state of the room
+     * @throws ElementNotFoundException if the room with the specified ID is not found
+     * @throws ServiceException if an unexpected error occurs while updating the room state
+     */
+    @Override
+    @Transactional
+    public void updateRoomState(Long id, RoomState roomState) {
+        try {
+            if (repository.updateRoomState(id, roomState, LocalDateTime.now()) == 0) {
+                throw new ElementNotFoundException("Room with id: " + id + " not found.");
+            }
+            outboxService.record(AGGREGATE_TYPE, id, repository.findVersionById(id), ChangeType.UPDATED);
+        } catch (ElementNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while updating room state", e);
+        }
+    }
+
+    /**
+     * Partially updates an existing room with a single targeted {@code UPDATE}, and records its outbox event
+     * with the version read back in the same transaction. Images and features are not loaded nor modified.
+     *
+     * @param id the ID of the room to be updated
+     * @param roomPatchDTO the data transfer object containing the fields to update
+     * @throws InvalidRequestException if the DTO does not contain any field
+     * @throws ElementNotFoundException if the room with the specified ID is not found
+     * @throws ServiceException if an unexpected error occurs while updating the room
+     */
+    @Override
+    @Transactional
+    public void patch(Long id, RoomPatchDTO roomPatchDTO) {
+        if (roomPatchDTO.getRoomNumber() == null && roomPatchDTO.getPriceByNight() == null
+                && roomPatchDTO.getRoomType() == null && roomPatchDTO.getRoomState() == null) {
+            throw new InvalidRequestException("At least one room field must be provided");
+        }
+        try {
+            int updatedRows = repository.patchRoom(id, roomPatchDTO.getRoomNumber(), roomPatchDTO.getPriceByNight(),
+                    roomPatchDTO.getRoomType(), roomPatchDTO.getRoomState(), LocalDateTime.now());
+            if (updatedRows == 0) {
+                throw new ElementNotFoundException("Room with id: " + id + " not found.");
+            }
+            outboxService.record(AGGREGATE_TYPE, id, repository.findVersionById(id), ChangeType.UPDATED);
+        } catch (ElementNotFoundException e) {
+            throw e;
+        } catch (DataIntegrityViolationException e) {
+            throw new ServiceException("Error updating room. Possible data integrity issue", e);
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while updating room", e);
+        }
+    }
+
+    /**
+     * Applies a set of compare-and-set room state transitions in one transaction.
+     *
+     * <p>Transitions are grouped by their (from, to) pair and each group is applied with a single conditional
+     * {@code UPDATE}. The updated rooms, and their new versions, are then identified by the modification timestamp
+     * written by this call, which no other transaction can write to the same rows before commit, and an outbox
+     * event is recorded for each of them.</p>
+     *
+     * @param transitions the transitions to apply, at most one per room
+     * @return the outcome of each transition, in the order they were requested
+     * @throws InvalidRequestException if a room appears in more than one transition
+     * @throws ServiceException if an unexpected error occurs while updating the room states
+     */
+    @Override
+    @Transactional
+    public List<RoomStateTransitionResultDTO> transitionRoomStates(List<RoomStateTransitionDTO> transitions) {
+        Map<RoomState, Map<RoomState, List<Long>>> roomIdsByTransition = new EnumMap<>(RoomState.class);
+        Set<Long> requestedRoomIds = new HashSet<>();
+        for (RoomStateTransitionDTO transition : transitions) {
+            if (!requestedRoomIds.add(transition.getRoomId())) {
+                throw new InvalidRequestException("Room with id: " + transition.getRoomId() + " appears more than once.");
+            }
+            roomIdsByTransition
+                    .computeIfAbsent(transition.getFromState(), fromState -> new EnumMap<>(RoomState.class))
+                    .computeIfAbsent(transition.getToState(), toState -> new ArrayList<>())
+                    .add(transition.getRoomId());
+        }
+
+        try {
+            LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            Set<Long> appliedRoomIds = new HashSet<>();
+            roomIdsByTransition.forEach((fromState, roomIdsByToState) ->
+                    roomIdsByToState.forEach((toState, roomIds) -> {
+                        if (repository.transitionRoomStates(roomIds, fromState, toState, updatedAt) > 0) {
+                            repository.findVersionsByRoomStateAndUpdatedAt(roomIds, toState, updatedAt)
+                                    .forEach(room -> {
+                                        appliedRoomIds.add(room.getId());
+                                        recordUpdated(room);
+                                    });
+                        }
+                    }));
+
+            return transitions.stream()
+                    .map(transition -> RoomStateTransitionResultDTO.builder()
+                            .roomId(transition.getRoomId())
+                            .fromState(transition.getFromState())
+                            .toState(transition.getToState())
+                            .applied(appliedRoomIds.contains(transition.getRoomId()))
+                            .build())
+                    .toList();
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while updating room states", e);
+        }
+    }
+
+    /**
+     * Reprices every room matching the filter of the {@link RoomRepriceDTO} with a single set-based update,
+     * without loading the rooms, their images or their features.
+     *
+     * <p>The operation is translated to {@code price * multiplier + delta}: {@code SET} uses a zero multiplier,
+     * {@code PERCENTAGE} a multiplier of {@code 1 + value / 100} and {@code DELTA} a plain delta. Negative results
+     * are floored at zero and the new price is rounded half-up to the requested scale.</p>
+     *
+     * <p>The repriced rooms, and their new versions, are then read back by the modification timestamp written by
+     * this call, and an outbox event is recorded for each of them.</p>
+     *
+     * @param roomRepriceDTO the DTO containing the filter and the price operation
+     * @return the number of repriced rooms
+     * @throws InvalidRequestException if the price range or the operand are not valid for the operation
+     * @throws ServiceException if an unexpected error occurs while repricing the rooms
+     */
+    @Override
+    @Transactional
+    public RoomRepriceResultDTO reprice(RoomRepriceDTO roomRepriceDTO) {
+        BigDecimal minPrice = roomRepriceDTO.getMinPrice();
+        BigDecimal maxPrice = roomRepriceDTO.getMaxPrice();
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidRequestException("minPrice must not be greater than maxPrice");
+        }
+
+        BigDecimal value = roomRepriceDTO.getValue();
+        BigDecimal multiplier;
+        BigDecimal delta;
+        switch (roomRepriceDTO.getOperation()) {
+            case SET -> {
+                if (value.signum() < 0) {
+                    throw new InvalidRequestException("The new price must be zero or a positive value");
+                }
+                multiplier = BigDecimal.ZERO;
+                delta = value;
+            }
+            case PERCENTAGE -> {
+                if (value.compareTo(ONE_HUNDRED.negate()) < 0) {
+                    throw new InvalidRequestException("The percentage must not be lower than -100");
+                }
+                multiplier = BigDecimal.ONE.add(value.movePointLeft(2));
+                delta = BigDecimal.ZERO;
+            }
+            case DELTA -> {
+                multiplier = BigDecimal.ONE;
+                delta = value;
+            }
+            default -> throw new InvalidRequestException("Unsupported price operation");
+        }
+        int scale = roomRepriceDTO.getScale() != null ? roomRepriceDTO.getScale() : DEFAULT_PRICE_SCALE;
+
+        try {
+            LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            int affectedRooms = repository.reprice(roomRepriceDTO.getRoomType(), roomRepriceDTO.getRoomState(),
+                    minPrice, maxPrice, multiplier, delta, scale, updatedAt);
+            if (affectedRooms > 0) {
+                repository.findVersionsByUpdatedAt(roomRepriceDTO.getRoomType(), roomRepriceDTO.getRoomState(), updatedAt)
+                        .forEach(this::recordUpdated);
+            }
+            return new RoomRepriceResultDTO(affectedRooms);
+        } catch (Exception e) {
+            throw new ServiceException("Unexpected error while repricing rooms", e);
+        }
+    }
+
+    /**
+     * Records the outbox event of a room updated by a bulk {@code UPDATE}.
+     *
+     * @param room the ID and new version of the room
+     */
+    private void recordUpdated(IRoomRepository.RoomVersion room) {
+        outboxService.record(AGGREGATE_TYPE, room.getId(), room.getVersion(), ChangeType.UPDATED);
+    }
+
+    /**
+     * Reconciles the images of a managed room with the images requested in the DTO, using the image path as key.
+     *
+     * <p>Images whose path is still requested are left untouched, images whose path is no longer requested are
+     * removed (and deleted through orphan removal) and only the new paths are mapped and added. This way an update
+     * that does not change the images does not issue any statement against the {@code images} table.</p>
+     *
+     * @param roomRegisterDTO the data transfer object containing the requested room images
+     * @param room the managed room entity whose images are reconciled
+     */
+    private void reconcileRoomImages(RoomRegisterDTO roomRegisterDTO, Room room) {
+        Map<String, RoomImageRegisterDTO> requestedImages = new LinkedHashMap<>();
+        if (roomRegisterDTO.getRoomImages() != null) {
+            for (RoomImageRegisterDTO roomImageRegisterDTO : roomRegisterDTO.getRoomImages()) {
+                requestedImages.putIfAbsent(roomImageRegisterDTO.getPath(), roomImageRegisterDTO);
+            }
+        }
+
+        List<RoomImage> removedImages = new ArrayList<>();
+        for (RoomImage roomImage : room.getRoomImages()) {
+            if (requestedImages.remove(roomImage.getPath()) == null) {
+                removedImages.add(roomImage);
+            }
+        }
+        removedImages.forEach(room::removeRoomImage);
+
+        for (RoomImageRegisterDTO roomImageRegisterDTO : requestedImages.values()) {
+            RoomImage roomImage = mapper.toRoomImage(roomImageRegisterDTO);
+            roomImage.setRoom(room);
+            room.addRoomImage(roomImage);
+        }
+    }
+
     /**
      * Handles the room features by validating the provided feature IDs and associating them with the room.
      *
@@ -244,11 +578,69 @@ public class RoomServiceImpl implements IRoomService {
      * @throws ElementNotFoundException if one or more features are not found
      */
     private void handleRoomFeatures(RoomRegisterDTO roomRegisterDTO, Room room) {
-        List<Long> roomFeaturesIds = roomRegisterDTO.getRoomFeatureIds();
+        Set<Long> roomFeaturesIds = requestedRoomFeatureIds(roomRegisterDTO);
+        room.setRoomFeatures(new LinkedHashSet<>(findRoomFeatures(roomFeaturesIds)));
+    }
+
+    /**
+     * Reconciles the features of a managed room with the feature IDs requested in the DTO.
+     *
+     * <p>The existing collection is modified in place: features that are no longer requested are removed and
+     * only the missing ones are loaded and added, so Hibernate writes just the changed rows of the
+     * {@code room_additional_features} join table.</p>
+     *
+     * @param roomRegisterDTO the data transfer object containing the room feature IDs
+     * @param room the managed room entity whose features are reconciled
+     * @throws ElementNotFoundException if one or more of the added features are not found
+     */
+    private void reconcileRoomFeatures(RoomRegisterDTO roomRegisterDTO, Room room) {
+        Set<Long> addedFeatureIds = requestedRoomFeatureIds(roomRegisterDTO);
+        Set<Long> requestedFeatureIds = Set.copyOf(addedFeatureIds);
+
+        room.getRoomFeatures().removeIf(roomFeature -> !requestedFeatureIds.contains(roomFeature.getId()));
+        room.getRoomFeatures().forEach(roomFeature -> addedFeatureIds.remove(roomFeature.getId()));
+
+        if (!addedFeatureIds.isEmpty()) {
+            findRoomFeatures(addedFeatureIds).forEach(room::addAdditionalService);
+        }
+    }
+
+    /**
+     * Collects the distinct feature IDs requested in the DTO, keeping their order.
+     *
+     * @param roomRegisterDTO the data transfer object containing the room feature IDs
+     * @return a mutable set with the requested feature IDs, empty if none were provided
+     */
+    private Set<Long> requestedRoomFeatureIds(RoomRegisterDTO roomRegisterDTO) {
+        return roomRegisterDTO.getRoomFeatureIds() == null
+                ? new LinkedHashSet<>()
+                : new LinkedHashSet<>(roomRegisterDTO.getRoomFeatureIds());
+    }
+
+    /**
+     * Loads the features with the given IDs, failing if any of them does not exist.
+     *
+     * @param roomFeaturesIds the IDs of the features to load
+     * @return the loaded room features
+     * @throws ElementNotFoundException if one or more features are not found
+     */
+    private List<RoomFeature> findRoomFeatures(Set<Long> roomFeaturesIds) {
         List<RoomFeature> existingRoomFeatures = featureRepository.findAllById(roomFeaturesIds);
         if (roomFeaturesIds.size() > existingRoomFeatures.size()) {
             throw new ElementNotFoundException("One or more Room Features not found");
         }
-        room.setRoomFeatures(existingRoomFeatures);
+        return existingRoomFeatures;
+    }
+
+    /**
+     * Hands a chunk of exported rooms to the consumer, then detaches them and empties the chunk.
+     *
+     * @param chunk the rooms read since the previous chunk
+     * @param consumer the consumer receiving each room
+     */
+    private void exportChunk(List<Room> chunk, Consumer<Room> consumer) {
+        chunk.forEach(consumer);
+        entityManager.clear();
+        chunk.clear();
     }
 }
\ No newline at end of file
@@ -12,6 +12,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -38,16 +40,16 @@ public class Data {
             .roomType(RoomType.SUITE)
             .roomState(RoomState.AVAILABLE)
             .roomImages(
-                    List.of(
+                    new ArrayList<>(List.of(
                             RoomImage.builder()
                                     .id(1L)
                                     .path("/path")
                                     .room(new Room())
                                     .build()
-                    )
+                    ))
             )
             .roomFeatures(
-                    List.of(
+                    new LinkedHashSet<>(List.of(
                             RoomFeature.builder()
                                     .id(1L)
                                     .serviceName("TV")
@@ -58,7 +60,7 @@ public class Data {
                                     .serviceName("XBOX")
                                     .servicePrice(new BigDecimal("3.00"))
                                     .build()
-                    )
+                    ))
             )
             .build();
 
@@ -0,0 +1,64 @@
+package org.gklyphon.room;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate {@link StatementInspector} that records every SQL statement prepared by the session factory.
+ * It is registered through the {@code hibernate.session_factory.statement_inspector} property in tests
+ * that need to assert the exact statements issued by a persistence operation.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records the statement and returns it unchanged.
+     *
+     * @param sql the SQL statement about to be prepared
+     * @return the same SQL statement
+     */
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    /**
+     * Discards all the statements recorded so far.
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Returns the recorded statements that start with the given verb and reference the given table.
+     *
+     * @param verb the SQL verb, e.g. {@code insert}, {@code update} or {@code delete}
+     * @param table the table name
+     * @return the matching statements, in the order they were prepared
+     */
+    public static List<String> statements(String verb, String table) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.startsWith(verb) && sql.contains(" " + table + " "))
+                .toList();
+    }
+
+    /**
+     * Returns the recorded statements that modify data (inserts, updates and deletes).
+     *
+     * @return the recorded write statements, in the order they were prepared
+     */
+    public static List<String> writeStatements() {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("insert") || sql.startsWith("update") || sql.startsWith("delete"))
+                .toList();
+    }
+}
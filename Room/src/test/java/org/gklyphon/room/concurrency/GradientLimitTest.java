@@ -0,0 +1,67 @@
+package org.gklyphon.room.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link GradientLimit} class.
+ * Feeds latency samples to the limit and checks the direction in which it moves.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class GradientLimitTest {
+
+    static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    GradientLimit limit = new GradientLimit(20, 5, 100, 0.2, 1.5, 600);
+
+    /**
+     * Steady latency with the limit in use must let the limit grow, up to its maximum.
+     */
+    @Test
+    void onSample_shouldGrowLimit_whenLatencyIsSteady() {
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    /**
+     * A latency spike above the long-term average must shrink the limit quickly.
+     */
+    @Test
+    void onSample_shouldShrinkLimit_whenLatencyRises() {
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW * 10, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isLessThan(50);
+    }
+
+    /**
+     * Requests far below the limit must not change it.
+     */
+    @Test
+    void onSample_shouldKeepLimit_whenMostlyIdle() {
+        limit.onSample(FAST, 1, false);
+        limit.onSample(SLOW, 1, false);
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * Dropped requests must back the limit off.
+     */
+    @Test
+    void onSample_shouldBackOff_whenRequestIsDropped() {
+        limit.onSample(FAST, 20, true);
+        assertThat(limit.getLimit()).isEqualTo(18);
+    }
+}
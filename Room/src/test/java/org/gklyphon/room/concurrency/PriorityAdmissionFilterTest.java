@@ -0,0 +1,102 @@
+package org.gklyphon.room.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link PriorityAdmissionFilter} class.
+ * Uses a single slot to check classification, shedding and metrics.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class PriorityAdmissionFilterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    PriorityAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        PriorityAdmissionProperties.Route create = new PriorityAdmissionProperties.Route();
+        create.setPriority(PriorityClass.CRITICAL);
+        create.setMethods(List.of("POST"));
+        create.setPaths(List.of("/rooms/create"));
+        PriorityAdmissionProperties properties = new PriorityAdmissionProperties();
+        properties.setMaxConcurrent(1);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        properties.setPriorityHeader("X-Request-Priority");
+        properties.setInternalToken("internal-secret");
+        properties.setRoutes(List.of(create));
+        properties.getStandard().setMaxWait(Duration.ofMillis(50));
+        properties.getStandard().setCpuShedThreshold(Double.MAX_VALUE);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new PriorityAdmissionFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry);
+    }
+
+    @Test
+    void classify_shouldUseRoutesThenHeaderThenDefault() {
+        MockHttpServletRequest sheddable = new MockHttpServletRequest("GET", "/rooms");
+        sheddable.addHeader("X-Request-Priority", "sheddable");
+        sheddable.addHeader("X-Internal-Token", "internal-secret");
+
+        assertThat(filter.classify(new MockHttpServletRequest("POST", "/rooms/create")))
+                .isEqualTo(PriorityClass.CRITICAL);
+        assertThat(filter.classify(sheddable)).isEqualTo(PriorityClass.SHEDDABLE);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/rooms")))
+                .isEqualTo(PriorityClass.STANDARD);
+    }
+
+    /**
+     * The priority header must be ignored unless the request carries the internal token, so that external clients
+     * cannot raise their own priority.
+     */
+    @Test
+    void classify_shouldIgnorePriorityHeader_whenInternalTokenIsMissingOrWrong() {
+        MockHttpServletRequest withoutToken = new MockHttpServletRequest("GET", "/rooms");
+        withoutToken.addHeader("X-Request-Priority", "critical");
+        MockHttpServletRequest withWrongToken = new MockHttpServletRequest("GET", "/rooms");
+        withWrongToken.addHeader("X-Request-Priority", "critical");
+        withWrongToken.addHeader("X-Internal-Token", "guessed-secret");
+
+        assertThat(filter.classify(withoutToken)).isEqualTo(PriorityClass.STANDARD);
+        assertThat(filter.classify(withWrongToken)).isEqualTo(PriorityClass.STANDARD);
+    }
+
+    /**
+     * A request not admitted in time must be shed with 503 and Retry-After, without reaching the chain.
+     */
+    @Test
+    void shouldShedRequest_whenNoSlotFreesInTime() throws Exception {
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        FilterChain chain = (request, response) -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/rooms"), shed, new MockFilterChain());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/rooms/create"), new MockHttpServletResponse(),
+                chain);
+
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(meterRegistry.get("http.server.admission.shed").tag("priority", "standard")
+                .tag("reason", "timeout").counter().count()).isEqualTo(1);
+        assertThat(filter.getController().getInFlight()).isZero();
+    }
+}
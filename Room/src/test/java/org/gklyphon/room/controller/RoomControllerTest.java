@@ -4,7 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.gklyphon.room.Data;
 import org.gklyphon.room.exception.custom.ElementNotFoundException;
+import org.gklyphon.room.model.dtos.RoomBatchDTO;
+import org.gklyphon.room.model.dtos.RoomPatchDTO;
 import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceResultDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionResultDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionsDTO;
+import org.gklyphon.room.model.dtos.RoomStateUpdateDTO;
+import org.gklyphon.room.model.entities.Room;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
 import org.gklyphon.room.service.impl.RoomServiceImpl;
@@ -18,15 +27,27 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -83,6 +104,22 @@ class RoomControllerTest {
         verify(service).findById(anyLong());
     }
 
+    @Test
+    void getByIdsTest() throws Exception {
+        when(service.findAllByIds(anyList())).thenReturn(RoomBatchDTO.builder()
+                .rooms(Map.of(1L, Data.ROOM))
+                .missingIds(List.of(2L))
+                .build());
+        mockMvc.perform(
+                MockMvcRequestBuilders.get(API_URL + "/batch")
+                        .param("ids", "1,2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rooms.1.roomNumber").value(101L))
+                .andExpect(jsonPath("$.missingIds[0]").value(2L));
+        verify(service).findAllByIds(List.of(1L, 2L));
+    }
+
     @Test
     void createRoomTest() throws Exception {
         when(service.save(any(RoomRegisterDTO.class))).thenReturn(Data.ROOM);
@@ -96,6 +133,47 @@ class RoomControllerTest {
         verify(service).save(any(RoomRegisterDTO.class));
     }
 
+    @Test
+    void createRoom_shouldReplayResponse_whenIdempotencyKeyIsReused() throws Exception {
+        when(service.save(any(RoomRegisterDTO.class))).thenReturn(Data.ROOM);
+        String idempotencyKey = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                    MockMvcRequestBuilders.post(API_URL + "/create")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Data.ROOM_REGISTER_DTO))
+                            .with(csrf()))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.roomNumber").value(101L));
+        }
+        verify(service).save(any(RoomRegisterDTO.class));
+    }
+
+    @Test
+    void createRoom_shouldReturnUnprocessableEntity_whenIdempotencyKeyIsReusedForAnotherRequest() throws Exception {
+        when(service.save(any(RoomRegisterDTO.class))).thenReturn(Data.ROOM);
+        String idempotencyKey = UUID.randomUUID().toString();
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Data.ROOM_REGISTER_DTO))
+                        .with(csrf()))
+                .andExpect(status().isCreated());
+        RoomRegisterDTO otherRoomRegisterDTO = objectMapper.readValue(
+                objectMapper.writeValueAsString(Data.ROOM_REGISTER_DTO), RoomRegisterDTO.class);
+        otherRoomRegisterDTO.setRoomNumber(102L);
+        mockMvc.perform(
+                MockMvcRequestBuilders.post(API_URL + "/create")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(otherRoomRegisterDTO))
+                        .with(csrf()))
+                .andExpect(status().isUnprocessableEntity());
+        verify(service).save(any(RoomRegisterDTO.class));
+    }
+
     @Test
     void createRoom_shouldThrowServiceException() throws Exception {
         doThrow(ServiceException.class).when(service).save(any(RoomRegisterDTO.class));
@@ -269,4 +347,137 @@ class RoomControllerTest {
                 .andExpect(jsonPath("$._embedded.roomList[0].id").value(1L));
         verify(service).findByRoomTypeAndRoomState(any(RoomType.class), any(RoomState.class), any(Pageable.class));
     }
+
+    @Test
+    void updateRoomStateTest() throws Exception {
+        doNothing().when(service).updateRoomState(anyLong(), any(RoomState.class));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1/state")
+                                .content(objectMapper.writeValueAsString(new RoomStateUpdateDTO(RoomState.ON_CLEANING)))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isNoContent());
+        verify(service).updateRoomState(1L, RoomState.ON_CLEANING);
+    }
+
+    @Test
+    void updateRoomState_shouldReturnBadRequest_whenStateIsUnknown() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1/state")
+                                .content("{\"roomState\":\"DIRTY\"}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).updateRoomState(anyLong(), any(RoomState.class));
+    }
+
+    @Test
+    void updateRoomState_shouldThrowElementNotFoundException() throws Exception {
+        doThrow(ElementNotFoundException.class).when(service).updateRoomState(anyLong(), any(RoomState.class));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1/state")
+                                .content(objectMapper.writeValueAsString(new RoomStateUpdateDTO(RoomState.AVAILABLE)))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchRoomTest() throws Exception {
+        doNothing().when(service).patch(anyLong(), any(RoomPatchDTO.class));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1")
+                                .content("{\"priceByNight\":180}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isNoContent());
+        verify(service).patch(anyLong(), any(RoomPatchDTO.class));
+    }
+
+    @Test
+    void patchRoom_shouldThrowMethodArgumentNotValidException() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.patch(API_URL + "/1")
+                                .content("{\"priceByNight\":-1}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).patch(anyLong(), any(RoomPatchDTO.class));
+    }
+
+    @Test
+    void transitionRoomStatesTest() throws Exception {
+        when(service.transitionRoomStates(anyList())).thenReturn(List.of(
+                new RoomStateTransitionResultDTO(1L, RoomState.OCCUPIED, RoomState.ON_CLEANING, true)));
+        RoomStateTransitionsDTO transitionsDTO = new RoomStateTransitionsDTO(List.of(
+                new RoomStateTransitionDTO(1L, RoomState.OCCUPIED, RoomState.ON_CLEANING)));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/state-transitions")
+                                .content(objectMapper.writeValueAsString(transitionsDTO))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].roomId").value(1L))
+                .andExpect(jsonPath("$[0].applied").value(true));
+        verify(service).transitionRoomStates(anyList());
+    }
+
+    @Test
+    void transitionRoomStates_shouldThrowMethodArgumentNotValidException() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/state-transitions")
+                                .content("{\"transitions\":[{\"roomId\":1,\"toState\":\"AVAILABLE\"}]}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).transitionRoomStates(anyList());
+    }
+
+    @Test
+    void repriceRoomsTest() throws Exception {
+        when(service.reprice(any(RoomRepriceDTO.class))).thenReturn(new RoomRepriceResultDTO(4));
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/reprice")
+                                .content("{\"roomType\":\"SUITE\",\"operation\":\"PERCENTAGE\",\"value\":12}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedRooms").value(4));
+        verify(service).reprice(any(RoomRepriceDTO.class));
+    }
+
+    @Test
+    void repriceRooms_shouldThrowMethodArgumentNotValidException() throws Exception {
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post(API_URL + "/reprice")
+                                .content("{\"operation\":\"SET\",\"value\":180,\"scale\":3}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).reprice(any(RoomRepriceDTO.class));
+    }
+
+    @Test
+    void export_shouldStreamRoomsAsNdjson() throws Exception {
+        CountDownLatch dispatched = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            dispatched.await(5, TimeUnit.SECONDS);
+            Consumer<Room> consumer = invocation.getArgument(0);
+            consumer.accept(Data.ROOM);
+            consumer.accept(Data.ROOM);
+            return null;
+        }).when(service).exportAll(any());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(API_URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        dispatched.countDown();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(101L, objectMapper.readTree(lines[0]).get("roomNumber").asLong());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package org.gklyphon.room.datasource;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link PrimaryStickinessFilter} class.
+ * Drives the filter with an explicit clock to check when the reads of a client are sent to the primary.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class PrimaryStickinessFilterTest {
+
+    long now;
+    PrimaryStickinessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PrimaryStickinessFilter("X-Client-Id", Duration.ofSeconds(5), () -> now);
+    }
+
+    /**
+     * After a write, the reads of the same client must go to the primary until the window is over.
+     */
+    @Test
+    void shouldForcePrimary_withinWindowAfterWrite() throws Exception {
+        send(request("POST", "/rooms/create", "client-1"), 201);
+
+        assertThat(send(request("GET", "/rooms/1", "client-1"), 200)).isTrue();
+        assertThat(send(request("GET", "/rooms/1", "client-2"), 200)).isFalse();
+        now += TimeUnit.SECONDS.toNanos(5);
+        assertThat(send(request("GET", "/rooms/1", "client-1"), 200)).isFalse();
+        assertThat(filter.getTrackedClients()).isZero();
+    }
+
+    /**
+     * Failed writes must not send the reads of the client to the primary.
+     */
+    @Test
+    void shouldNotForcePrimary_afterFailedWrite() throws Exception {
+        send(request("POST", "/rooms/create", "client-1"), 400);
+
+        assertThat(send(request("GET", "/rooms/1", "client-1"), 200)).isFalse();
+    }
+
+    @Test
+    void evictExpired_shouldForgetClientsWhoseWindowIsOver() throws Exception {
+        send(request("PUT", "/rooms/update/1", null), 200);
+        now += TimeUnit.SECONDS.toNanos(6);
+
+        filter.evictExpired();
+
+        assertThat(filter.getTrackedClients()).isZero();
+    }
+
+    /**
+     * Sends a request through the filter and returns whether the chain ran with the primary forced.
+     */
+    private boolean send(MockHttpServletRequest request, int status) throws Exception {
+        AtomicBoolean primaryForced = new AtomicBoolean();
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            primaryForced.set(ReplicaRoutingContext.isPrimaryForced());
+            ((MockHttpServletResponse) servletResponse).setStatus(status);
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(ReplicaRoutingContext.isPrimaryForced()).isFalse();
+        return primaryForced.get();
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        return request;
+    }
+}
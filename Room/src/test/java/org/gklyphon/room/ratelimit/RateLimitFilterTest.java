@@ -0,0 +1,142 @@
+package org.gklyphon.room.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link RateLimitFilter} class.
+ * Uses a rule with a burst of two requests and a slow refill to check the headers, rejection and metrics, with one
+ * known API key and at most three tracked clients.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class RateLimitFilterTest {
+
+    SimpleMeterRegistry meterRegistry;
+    RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setMethods(List.of("GET"));
+        rule.setPaths(List.of("/rooms/price-by-night-*"));
+        rule.setCapacity(2);
+        rule.setRefillPerSecond(0.01);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().put("room-search", rule);
+        properties.setApiKeys(Set.of("partner-key"));
+        properties.setMaxClients(3);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                meterRegistry);
+    }
+
+    /**
+     * Requests over the burst must be rejected with 429 and Retry-After, and every response must carry the
+     * rate limit headers.
+     */
+    @Test
+    void shouldRejectRequestsOverLimit() throws Exception {
+        MockHttpServletResponse first = send(search("10.0.0.1", null));
+        send(search("10.0.0.1", null));
+        MockHttpServletResponse rejected = send(search("10.0.0.1", null));
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("2");
+        assertThat(first.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("1");
+        assertThat(first.getHeader(RateLimitFilter.RESET_HEADER)).isEqualTo("100");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("100");
+        assertThat(rejected.getContentAsString()).contains("Too many requests");
+        assertThat(meterRegistry.get("http.server.rate.limit.rejected").tag("rule", "room-search")
+                .counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Clients must be limited separately, by API key when a known one is sent and by IP address otherwise.
+     */
+    @Test
+    void shouldLimitEachClientSeparately() throws Exception {
+        send(search("10.0.0.1", null));
+        send(search("10.0.0.1", null));
+
+        assertThat(send(search("10.0.0.1", "partner-key")).getStatus()).isEqualTo(200);
+        assertThat(send(search("10.0.0.2", null)).getStatus()).isEqualTo(200);
+        assertThat(filter.getLimiters().get(0).getTrackedClients()).isEqualTo(3);
+    }
+
+    /**
+     * Sending a new unknown API key on each request must not give the client a new bucket.
+     */
+    @Test
+    void shouldIgnoreUnknownApiKeys() throws Exception {
+        long allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (send(search("10.0.0.1", UUID.randomUUID().toString())).getStatus() == 200) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(2);
+        assertThat(filter.getLimiters().get(0).getTrackedClients()).isEqualTo(1);
+    }
+
+    /**
+     * Beyond the maximum number of clients, the client tracked for the longest time must be evicted even though
+     * its bucket is not full.
+     */
+    @Test
+    void shouldEvictOldestClient_whenMaxClientsIsExceeded() throws Exception {
+        send(search("10.0.0.1", null));
+        send(search("10.0.0.1", null));
+        send(search("10.0.0.2", null));
+        send(search("10.0.0.3", null));
+        send(search("10.0.0.4", null));
+
+        assertThat(filter.getLimiters().get(0).getTrackedClients()).isEqualTo(3);
+        assertThat(send(search("10.0.0.4", null)).getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(send(search("10.0.0.1", null)).getStatus()).isEqualTo(200);
+        assertThat(filter.getLimiters().get(0).getTrackedClients()).isEqualTo(3);
+    }
+
+    /**
+     * Requests outside every rule must not be limited nor get the rate limit headers.
+     */
+    @Test
+    void shouldNotLimitRequestsOutsideRules() throws Exception {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/rooms/1"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isNull();
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest search(String remoteAddress, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/rooms/price-by-night-between");
+        request.setRemoteAddr(remoteAddress);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}
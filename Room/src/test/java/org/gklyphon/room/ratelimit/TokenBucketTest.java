@@ -0,0 +1,53 @@
+package org.gklyphon.room.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link TokenBucket} class.
+ * Drives the bucket with explicit timestamps instead of the system clock.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+class TokenBucketTest {
+
+    static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * A full bucket must allow a burst of its capacity, then reject until a token is refilled.
+     */
+    @Test
+    void shouldAllowBurstThenReject() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertThat(IntStream.range(0, 3).mapToObj(i -> bucket.tryConsume(0)))
+                .extracting(TokenBucket.Consumption::remaining)
+                .containsExactly(2, 1, 0);
+        TokenBucket.Consumption rejected = bucket.tryConsume(0);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos()).isEqualTo(SECOND);
+        assertThat(rejected.resetNanos()).isEqualTo(3 * SECOND);
+    }
+
+    /**
+     * Tokens must be refilled at the sustained rate, and the bucket must be full again after the reset time.
+     */
+    @Test
+    void shouldRefillAtSustainedRate() {
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(SECOND / 4).allowed()).isFalse();
+        assertThat(bucket.tryConsume(SECOND / 2).allowed()).isTrue();
+        assertThat(bucket.isFull(SECOND / 2)).isFalse();
+        assertThat(bucket.isFull(3 * SECOND / 2)).isTrue();
+    }
+}
@@ -0,0 +1,209 @@
+package org.gklyphon.room.repository;
+
+import org.gklyphon.room.SqlStatementRecorder;
+import org.gklyphon.room.model.entities.Room;
+import org.gklyphon.room.model.entities.RoomFeature;
+import org.gklyphon.room.model.entities.RoomImage;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Persistence tests for the modifying queries of {@link IRoomRepository}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.room.SqlStatementRecorder"
+})
+class IRoomRepositoryTest {
+
+    @Autowired
+    IRoomRepository repository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room();
+        room.setRoomNumber(101L);
+        room.setPriceByNight(new BigDecimal("150.00"));
+        room.setRoomType(RoomType.SUITE);
+        room.setRoomState(RoomState.ON_CLEANING);
+        entityManager.persistAndFlush(room);
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * The state change must be a single {@code UPDATE} on the rooms table, without any prior select.
+     */
+    @Test
+    void updateRoomState_shouldIssueSingleUpdate() {
+        int updatedRows = repository.updateRoomState(room.getId(), RoomState.AVAILABLE, LocalDateTime.now());
+
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("update", "rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "rooms")).isEmpty();
+        Room updatedRoom = entityManager.find(Room.class, room.getId());
+        assertThat(updatedRoom.getRoomState()).isEqualTo(RoomState.AVAILABLE);
+        assertThat(updatedRoom.getVersion()).isEqualTo(room.getVersion() + 1);
+    }
+
+    /**
+     * Updating a room that does not exist must report zero updated rows.
+     */
+    @Test
+    void updateRoomState_shouldReturnZero_whenRoomDoesNotExist() {
+        assertThat(repository.updateRoomState(-1L, RoomState.AVAILABLE, LocalDateTime.now())).isZero();
+    }
+
+    /**
+     * The partial update must only change the provided fields.
+     */
+    @Test
+    void patchRoom_shouldKeepFieldsThatAreNull() {
+        int updatedRows = repository.patchRoom(room.getId(), null, new BigDecimal("180.00"), null, null,
+                LocalDateTime.now());
+
+        Room patchedRoom = entityManager.find(Room.class, room.getId());
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(1);
+        assertThat(patchedRoom.getPriceByNight()).isEqualByComparingTo("180.00");
+        assertThat(patchedRoom.getRoomNumber()).isEqualTo(101L);
+        assertThat(patchedRoom.getRoomType()).isEqualTo(RoomType.SUITE);
+        assertThat(patchedRoom.getRoomState()).isEqualTo(RoomState.ON_CLEANING);
+    }
+
+    /**
+     * The conditional transition must only move rooms that are in the expected state, and the updated rooms
+     * must be identifiable, with their new version, by the timestamp written in the same transaction.
+     */
+    @Test
+    void transitionRoomStates_shouldOnlyUpdateRoomsInTheExpectedState() {
+        Room occupiedRoom = new Room();
+        occupiedRoom.setRoomNumber(102L);
+        occupiedRoom.setPriceByNight(new BigDecimal("150.00"));
+        occupiedRoom.setRoomType(RoomType.DOUBLE);
+        occupiedRoom.setRoomState(RoomState.OCCUPIED);
+        entityManager.persistAndFlush(occupiedRoom);
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> roomIds = List.of(room.getId(), occupiedRoom.getId());
+        int updatedRows = repository.transitionRoomStates(roomIds, RoomState.OCCUPIED, RoomState.ON_CLEANING, updatedAt);
+
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(1);
+        assertThat(repository.findVersionsByRoomStateAndUpdatedAt(roomIds, RoomState.ON_CLEANING, updatedAt))
+                .extracting(IRoomRepository.RoomVersion::getId, IRoomRepository.RoomVersion::getVersion)
+                .containsExactly(tuple(occupiedRoom.getId(), occupiedRoom.getVersion() + 1));
+    }
+
+    /**
+     * The repricing must be a single {@code UPDATE} that only touches the rooms matching the filter,
+     * rounding the new price and flooring it at zero, and the repriced rooms must be identifiable, with their new
+     * version, by the timestamp written in the same transaction.
+     */
+    @Test
+    void reprice_shouldUpdateMatchingRoomsWithSingleStatement() {
+        Room doubleRoom = new Room();
+        doubleRoom.setRoomNumber(102L);
+        doubleRoom.setPriceByNight(new BigDecimal("99.99"));
+        doubleRoom.setRoomType(RoomType.DOUBLE);
+        doubleRoom.setRoomState(RoomState.AVAILABLE);
+        entityManager.persistAndFlush(doubleRoom);
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updatedRows = repository.reprice(RoomType.SUITE, null, null, null,
+                new BigDecimal("1.125"), BigDecimal.ZERO, 1, updatedAt);
+
+        assertThat(updatedRows).isEqualTo(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(1);
+        assertThat(repository.findVersionsByUpdatedAt(RoomType.SUITE, null, updatedAt))
+                .extracting(IRoomRepository.RoomVersion::getId, IRoomRepository.RoomVersion::getVersion)
+                .containsExactly(tuple(room.getId(), room.getVersion() + 1));
+        assertThat(entityManager.find(Room.class, room.getId()).getPriceByNight()).isEqualByComparingTo("168.80");
+        assertThat(entityManager.find(Room.class, doubleRoom.getId()).getPriceByNight()).isEqualByComparingTo("99.99");
+
+        entityManager.clear();
+        assertThat(repository.reprice(null, null, new BigDecimal("50"), new BigDecimal("100"),
+                BigDecimal.ONE, new BigDecimal("-500"), 2, LocalDateTime.now())).isEqualTo(1);
+        assertThat(entityManager.find(Room.class, doubleRoom.getId()).getPriceByNight()).isEqualByComparingTo("0");
+    }
+
+    /**
+     * Deleting a room must remove its images and feature associations with one statement each,
+     * keep the features themselves and never select the room.
+     */
+    @Test
+    void deleteRoomById_shouldDeleteChildRowsWithSetBasedStatements() {
+        RoomFeature roomFeature = new RoomFeature();
+        roomFeature.setServiceName("Minibar");
+        roomFeature.setServicePrice(new BigDecimal("20.00"));
+        entityManager.persist(roomFeature);
+        Room managedRoom = entityManager.find(Room.class, room.getId());
+        managedRoom.addAdditionalService(roomFeature);
+        for (String path : List.of("/img/101-a.png", "/img/101-b.png")) {
+            RoomImage roomImage = new RoomImage();
+            roomImage.setPath(path);
+            roomImage.setRoom(managedRoom);
+            managedRoom.addRoomImage(roomImage);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+
+        assertThat(repository.deleteRoomImagesByRoomId(room.getId())).isEqualTo(2);
+        assertThat(repository.deleteRoomById(room.getId())).isEqualTo(1);
+
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(3);
+        assertThat(SqlStatementRecorder.statements("delete", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "rooms")).isEmpty();
+        assertThat(entityManager.find(Room.class, room.getId())).isNull();
+        assertThat(entityManager.find(RoomFeature.class, roomFeature.getId())).isNotNull();
+        assertThat(repository.deleteRoomById(room.getId())).isZero();
+    }
+
+    /**
+     * The export stream must return every room once, in ID order.
+     */
+    @Test
+    void streamAll_shouldReturnRoomsInIdOrder() {
+        Room second = new Room();
+        second.setRoomNumber(102L);
+        second.setPriceByNight(new BigDecimal("90.00"));
+        second.setRoomType(RoomType.SIMPLE);
+        second.setRoomState(RoomState.AVAILABLE);
+        entityManager.persistAndFlush(second);
+        entityManager.clear();
+
+        try (Stream<Room> rooms = repository.streamAll()) {
+            assertThat(rooms.toList()).extracting(Room::getId).containsExactly(room.getId(), second.getId());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.gklyphon.room.service.impl;
+
+import org.gklyphon.room.model.entities.OutboxEvent;
+import org.gklyphon.room.model.entities.enums.ChangeType;
+import org.gklyphon.room.outbox.OutboxEventSink;
+import org.gklyphon.room.repository.IOutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Persistence test for the outbox recording, relay and purge of {@link OutboxServiceImpl}.
+ * Runs against an embedded database with a relay batch size of 2 and a sink recording what it receives.
+ * Tests run without a surrounding transaction, so that they see the transactions of the relay.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "outbox.relay.batch-size=2"
+})
+@Import({OutboxServiceImpl.class, OutboxServiceImplTest.RecordingSinkConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxServiceImplTest {
+
+    @Autowired
+    OutboxServiceImpl service;
+
+    @Autowired
+    IOutboxEventRepository repository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        sink.batches.clear();
+        sink.failing = false;
+        sink.inTransaction = false;
+    }
+
+    /**
+     * Pending events must be relayed in batches, in the order they were recorded, and marked as published.
+     */
+    @Test
+    void relayPending_shouldPublishPendingEventsInBatches() {
+        transactionTemplate.executeWithoutResult(status -> {
+            service.record("Room", 1L, 0L, ChangeType.CREATED);
+            service.record("Room", 1L, 1L, ChangeType.UPDATED);
+            service.record("Room", 1L, null, ChangeType.DELETED);
+        });
+
+        assertThat(service.relayPending()).isEqualTo(2);
+        assertThat(service.relayPending()).isEqualTo(1);
+        assertThat(service.relayPending()).isZero();
+
+        assertThat(sink.batches).hasSize(2);
+        assertThat(sink.batches.get(0)).extracting(OutboxEvent::getChangeType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED);
+        assertThat(sink.batches.get(1)).extracting(OutboxEvent::getAggregateVersion).containsExactly((Long) null);
+        assertThat(sink.inTransaction).isFalse();
+        assertThat(repository.findAll()).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNotNull();
+            assertThat(event.getClaimedUntil()).isNull();
+        });
+    }
+
+    /**
+     * A failing sink must leave the batch pending and release its claim, so that the next run retries it.
+     */
+    @Test
+    void relayPending_shouldKeepEventsPending_whenSinkFails() {
+        transactionTemplate.executeWithoutResult(status -> service.record("Room", 1L, 0L, ChangeType.CREATED));
+        sink.failing = true;
+
+        assertThatThrownBy(() -> service.relayPending()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.findAll()).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNull();
+            assertThat(event.getClaimedUntil()).isNull();
+        });
+        sink.failing = false;
+        assertThat(service.relayPending()).isEqualTo(1);
+    }
+
+    /**
+     * Events claimed by another relay must be skipped until the claim expires.
+     */
+    @Test
+    void relayPending_shouldSkipClaimedEvents_untilTheClaimExpires() {
+        OutboxEvent claimed = saveEvent(null, LocalDateTime.now().plusMinutes(1));
+        OutboxEvent expired = saveEvent(null, LocalDateTime.now().minusSeconds(1));
+
+        assertThat(service.relayPending()).isEqualTo(1);
+
+        assertThat(sink.batches).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(OutboxEvent::getId).containsExactly(expired.getId()));
+        assertThat(repository.findById(claimed.getId())).get()
+                .satisfies(event -> assertThat(event.getPublishedAt()).isNull());
+    }
+
+    /**
+     * Only the events published before the retention period must be purged.
+     */
+    @Test
+    void purgePublished_shouldDeleteOnlyExpiredPublishedEvents() {
+        saveEvent(LocalDateTime.now().minusDays(8), null);
+        saveEvent(LocalDateTime.now().minusDays(1), null);
+        saveEvent(null, null);
+
+        assertThat(service.purgePublished()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    private OutboxEvent saveEvent(LocalDateTime publishedAt, LocalDateTime claimedUntil) {
+        return repository.save(OutboxEvent.builder()
+                .aggregateType("Room")
+                .aggregateId(1L)
+                .changeType(ChangeType.UPDATED)
+                .createdAt(LocalDateTime.now().minusDays(10))
+                .publishedAt(publishedAt)
+                .claimedUntil(claimedUntil)
+                .build());
+    }
+
+    /**
+     * Sink keeping a copy of every batch it receives, optionally failing instead.
+     * Also records whether it was ever called inside a transaction.
+     */
+    static class RecordingSink implements OutboxEventSink {
+
+        final List<List<OutboxEvent>> batches = new ArrayList<>();
+        boolean failing;
+        boolean inTransaction;
+
+        @Override
+        public void publish(List<OutboxEvent> events) {
+            inTransaction |= TransactionSynchronizationManager.isActualTransactionActive();
+            if (failing) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            batches.add(List.copyOf(events));
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}
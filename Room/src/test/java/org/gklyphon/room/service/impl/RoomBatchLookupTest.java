@@ -0,0 +1,96 @@
+package org.gklyphon.room.service.impl;
+
+import org.gklyphon.room.SqlStatementRecorder;
+import org.gklyphon.room.mapper.IRoomMapperImpl;
+import org.gklyphon.room.model.dtos.RoomBatchDTO;
+import org.gklyphon.room.model.entities.Room;
+import org.gklyphon.room.model.entities.RoomFeature;
+import org.gklyphon.room.model.entities.RoomImage;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test for the queries issued by {@link RoomServiceImpl#findAllByIds(java.util.Collection)}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.room.SqlStatementRecorder"
+})
+@Import({RoomServiceImpl.class, OutboxServiceImpl.class, IRoomMapperImpl.class})
+class RoomBatchLookupTest {
+
+    @Autowired
+    RoomServiceImpl service;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    List<Long> roomIds;
+
+    /**
+     * Persists 99 rooms, each with an image and a feature.
+     */
+    @BeforeEach
+    void setUp() {
+        RoomFeature feature = entityManager.persist(RoomFeature.builder()
+                .serviceName("Breakfast")
+                .servicePrice(BigDecimal.ONE)
+                .build());
+        roomIds = IntStream.rangeClosed(1, 99)
+                .mapToObj(i -> {
+                    Room room = new Room();
+                    room.setRoomNumber(100L + i);
+                    room.setPriceByNight(new BigDecimal("150.00"));
+                    room.setRoomType(RoomType.SIMPLE);
+                    room.setRoomState(RoomState.AVAILABLE);
+                    room.setRoomImages(new ArrayList<>(List.of(
+                            RoomImage.builder().path("/rooms/" + i + ".jpg").room(room).build())));
+                    room.addAdditionalService(feature);
+                    return entityManager.persist(room).getId();
+                })
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Looking up 99 rooms and a missing one, more than {@code default_batch_fetch_size}, must load the rooms with
+     * their images in one query and their features in a second one, and lazy-load nothing afterwards.
+     */
+    @Test
+    void findAllByIds_shouldLoadRoomsAndCollectionsInTwoQueries() {
+        List<Long> ids = new ArrayList<>(roomIds);
+        ids.add(-1L);
+
+        RoomBatchDTO batch = service.findAllByIds(ids);
+        batch.getRooms().values().forEach(room -> {
+            assertThat(room.getRoomImages()).hasSize(1);
+            assertThat(room.getRoomFeatures()).hasSize(1);
+        });
+
+        assertThat(batch.getRooms()).hasSize(99);
+        assertThat(batch.getMissingIds()).containsExactly(-1L);
+        assertThat(SqlStatementRecorder.statements("select", "images")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "rooms")).hasSize(2);
+    }
+}
@@ -0,0 +1,89 @@
+package org.gklyphon.room.service.impl;
+
+import org.gklyphon.room.SqlStatementRecorder;
+import org.gklyphon.room.mapper.IRoomMapperImpl;
+import org.gklyphon.room.model.entities.Room;
+import org.gklyphon.room.model.entities.RoomFeature;
+import org.gklyphon.room.model.entities.RoomImage;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test for the room catalog export of {@link RoomServiceImpl#exportAll(java.util.function.Consumer)}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.room.SqlStatementRecorder"
+})
+@Import({RoomServiceImpl.class, OutboxServiceImpl.class, IRoomMapperImpl.class})
+class RoomExportTest {
+
+    @Autowired
+    RoomServiceImpl service;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    List<Room> rooms;
+
+    /**
+     * Persists 10 rooms, each with two features and two images.
+     */
+    @BeforeEach
+    void setUp() {
+        RoomFeature tv = entityManager.persist(RoomFeature.builder().serviceName("TV").servicePrice(BigDecimal.ONE).build());
+        RoomFeature wifi = entityManager.persist(RoomFeature.builder().serviceName("WiFi").servicePrice(BigDecimal.ONE).build());
+        rooms = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> {
+                    Room room = new Room();
+                    room.setRoomNumber(100L + i);
+                    room.setPriceByNight(new BigDecimal("150.00"));
+                    room.setRoomType(RoomType.SUITE);
+                    room.setRoomState(RoomState.AVAILABLE);
+                    room.addAdditionalService(tv);
+                    room.addAdditionalService(wifi);
+                    room.addRoomImage(RoomImage.builder().path("/front/" + i).room(room).build());
+                    room.addRoomImage(RoomImage.builder().path("/bath/" + i).room(room).build());
+                    return entityManager.persist(room);
+                })
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Every room must be exported once, in ID order, with its features and images, and the features and images
+     * of the rooms must be batch fetched instead of loaded room by room.
+     */
+    @Test
+    void exportAll_shouldExportCompleteRoomsWithBatchFetchedChildren() {
+        List<String> exported = new ArrayList<>();
+
+        service.exportAll(room -> exported.add(
+                room.getId() + ":" + room.getRoomFeatures().size() + ":" + room.getRoomImages().size()));
+
+        assertThat(exported).containsExactlyElementsOf(rooms.stream().map(room -> room.getId() + ":2:2").toList());
+        assertThat(SqlStatementRecorder.statements("select", "rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("select", "images")).hasSize(1);
+    }
+}
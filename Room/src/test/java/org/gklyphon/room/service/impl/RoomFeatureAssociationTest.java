@@ -0,0 +1,134 @@
+package org.gklyphon.room.service.impl;
+
+import org.gklyphon.room.SqlStatementRecorder;
+import org.gklyphon.room.mapper.IRoomMapperImpl;
+import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.entities.Room;
+import org.gklyphon.room.model.entities.RoomFeature;
+import org.gklyphon.room.model.entities.enums.RoomState;
+import org.gklyphon.room.model.entities.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence test for the maintenance of the {@code room_additional_features} join table by
+ * {@link RoomServiceImpl#update(Long, org.gklyphon.room.model.dtos.RoomRegisterDTO)} and
+ * {@link RoomFeatureServiceImpl#delete(Long)}.
+ * Runs against an embedded database and records the SQL issued by Hibernate through {@link SqlStatementRecorder}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.gklyphon.room.SqlStatementRecorder"
+})
+@Import({RoomServiceImpl.class, OutboxServiceImpl.class, RoomFeatureServiceImpl.class, IRoomMapperImpl.class})
+class RoomFeatureAssociationTest {
+
+    @Autowired
+    RoomServiceImpl service;
+
+    @Autowired
+    RoomFeatureServiceImpl featureService;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    List<RoomFeature> features;
+    Room room;
+
+    /**
+     * Persists 21 features and a room associated with the first 20 of them.
+     */
+    @BeforeEach
+    void setUp() {
+        features = IntStream.rangeClosed(1, 21)
+                .mapToObj(i -> entityManager.persist(RoomFeature.builder()
+                        .serviceName("Feature " + i)
+                        .servicePrice(BigDecimal.ONE)
+                        .build()))
+                .toList();
+
+        room = new Room();
+        room.setRoomNumber(101L);
+        room.setPriceByNight(new BigDecimal("150.00"));
+        room.setRoomType(RoomType.SUITE);
+        room.setRoomState(RoomState.AVAILABLE);
+        features.subList(0, 20).forEach(room::addAdditionalService);
+        entityManager.persistAndFlush(room);
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    /**
+     * Adding a single feature to a room with 20 features must insert exactly one join row
+     * and must not delete or rewrite the existing ones. Besides the join row, the only writes are
+     * the version increment of the room and its outbox event.
+     */
+    @Test
+    void update_shouldInsertOnlyTheAddedJoinRow() {
+        service.update(room.getId(), roomRegisterDTO(features));
+        entityManager.flush();
+
+        assertThat(SqlStatementRecorder.statements("insert", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("delete", "room_additional_features")).isEmpty();
+        assertThat(SqlStatementRecorder.statements("update", "rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "outbox")).hasSize(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(3);
+    }
+
+    /**
+     * Removing a single feature from a room must delete exactly one join row. Besides the join row, the only
+     * writes are the version increment of the room and its outbox event.
+     */
+    @Test
+    void update_shouldDeleteOnlyTheRemovedJoinRow() {
+        service.update(room.getId(), roomRegisterDTO(features.subList(1, 20)));
+        entityManager.flush();
+
+        assertThat(SqlStatementRecorder.statements("delete", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "room_additional_features")).isEmpty();
+        assertThat(SqlStatementRecorder.statements("update", "rooms")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("insert", "outbox")).hasSize(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(3);
+    }
+
+    /**
+     * Deleting a feature must remove its join rows and the feature row with one statement each,
+     * without loading the feature or the rooms using it.
+     */
+    @Test
+    void deleteFeature_shouldDeleteJoinRowsWithSingleStatement() {
+        featureService.delete(features.get(0).getId());
+        entityManager.flush();
+
+        assertThat(SqlStatementRecorder.statements("delete", "room_additional_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.statements("delete", "room_features")).hasSize(1);
+        assertThat(SqlStatementRecorder.writeStatements()).hasSize(2);
+        assertThat(SqlStatementRecorder.statements("select", "room_features")).isEmpty();
+        assertThat(entityManager.find(Room.class, room.getId()).getRoomFeatures()).hasSize(19);
+    }
+
+    private RoomRegisterDTO roomRegisterDTO(List<RoomFeature> roomFeatures) {
+        return RoomRegisterDTO.builder()
+                .roomNumber(101L)
+                .priceByNight(new BigDecimal("150.00"))
+                .roomType("SUITE")
+                .roomState("AVAILABLE")
+                .roomImages(List.of())
+                .roomFeatureIds(roomFeatures.stream().map(RoomFeature::getId).toList())
+                .build();
+    }
+}
@@ -1,13 +1,27 @@
 package org.gklyphon.room.service.impl;
 
+import jakarta.persistence.EntityManager;
 import org.gklyphon.room.Data;
+import org.gklyphon.room.exception.custom.ElementNotFoundException;
+import org.gklyphon.room.exception.custom.InvalidRequestException;
 import org.gklyphon.room.mapper.IRoomMapper;
+import org.gklyphon.room.model.dtos.RoomBatchDTO;
+import org.gklyphon.room.model.dtos.RoomImageRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomPatchDTO;
 import org.gklyphon.room.model.dtos.RoomRegisterDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceDTO;
+import org.gklyphon.room.model.dtos.RoomRepriceResultDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionDTO;
+import org.gklyphon.room.model.dtos.RoomStateTransitionResultDTO;
 import org.gklyphon.room.model.entities.Room;
+import org.gklyphon.room.model.entities.RoomFeature;
+import org.gklyphon.room.model.entities.RoomImage;
+import org.gklyphon.room.model.entities.enums.ChangeType;
 import org.gklyphon.room.model.entities.enums.RoomState;
 import org.gklyphon.room.model.entities.enums.RoomType;
 import org.gklyphon.room.repository.IRoomFeatureRepository;
 import org.gklyphon.room.repository.IRoomRepository;
+import org.gklyphon.room.service.IOutboxService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,11 +31,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -59,10 +80,24 @@ class RoomServiceImplTest {
     @Mock
     IRoomMapper mapper;
 
+    /**
+     * Mocked instance of the outbox service.
+     * Used to verify that changes are recorded as outbox events.
+     */
+    @Mock
+    IOutboxService outboxService;
+
     /**
      * Instance of the `RoomServiceImpl` class that is being tested.
      * The service layer class that contains business logic related to rooms.
      */
+    /**
+     * Mocked instance of the entity manager.
+     * Used to verify that the persistence context is cleared once exported rooms are consumed.
+     */
+    @Mock
+    EntityManager entityManager;
+
     @InjectMocks
     RoomServiceImpl service;
 
@@ -157,10 +192,23 @@ class RoomServiceImplTest {
      */
     @Test
     void delete() {
-        doNothing().when(repository).deleteById(anyLong());
-        when(repository.findById(anyLong())).thenReturn(Optional.of(Data.ROOM));
+        when(repository.deleteRoomById(anyLong())).thenReturn(1);
         assertDoesNotThrow(() -> service.delete(1L));
-        verify(repository).deleteById(anyLong());
+        verify(repository).deleteRoomImagesByRoomId(1L);
+        verify(repository).deleteRoomById(1L);
+        verify(repository, never()).findById(anyLong());
+        verify(outboxService).record("Room", 1L, null, ChangeType.DELETED);
+    }
+
+    /**
+     * Test case to verify that the `delete` method throws `ElementNotFoundException`
+     * when no room row was deleted.
+     */
+    @Test
+    void delete_shouldThrowElementNotFoundException() {
+        when(repository.deleteRoomById(anyLong())).thenReturn(0);
+        assertThrows(ElementNotFoundException.class, () -> service.delete(1L));
+        verifyNoInteractions(outboxService);
     }
 
     /**
@@ -187,6 +235,33 @@ class RoomServiceImplTest {
         verify(repository).findById(anyLong());
     }
 
+    /**
+     * Test case to verify the `findAllByIds` method in the `RoomServiceImpl` class.
+     * Validates that duplicate IDs are looked up once, with a single query, and that missing IDs are reported.
+     */
+    @Test
+    void findAllByIds() {
+        when(repository.fetchRoomImages(any())).thenReturn(List.of(Data.ROOM));
+
+        RoomBatchDTO batch = service.findAllByIds(List.of(2L, 1L, 2L));
+
+        assertThat(batch.getRooms()).containsOnlyKeys(1L);
+        assertThat(batch.getMissingIds()).containsExactly(2L);
+        verify(repository).fetchRoomImages(Set.of(1L, 2L));
+        verify(repository).fetchRoomFeatures(Set.of(1L));
+    }
+
+    /**
+     * Test case to verify that the `findAllByIds` method rejects more IDs than a batch allows.
+     */
+    @Test
+    void findAllByIds_shouldThrowInvalidRequestException_whenTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThrows(InvalidRequestException.class, () -> service.findAllByIds(ids));
+        verify(repository, never()).fetchRoomImages(any());
+    }
+
     /**
      * Test case to verify the `save` method in the `RoomServiceImpl` class.
      * Validates that the method correctly saves a new room based on the provided DTO.
@@ -200,6 +275,7 @@ class RoomServiceImplTest {
         assertEquals(101L, room.getRoomNumber());
         verify(repository).save(any(Room.class));
         verify(mapper).toRoom(any(RoomRegisterDTO.class));
+        verify(outboxService).record("Room", 1L, null, ChangeType.CREATED);
     }
 
     /**
@@ -210,17 +286,228 @@ class RoomServiceImplTest {
     void update() {
         when(repository.findById(anyLong())).thenReturn(Optional.of(Data.ROOM));
         when(mapper.toRoom(any(RoomRegisterDTO.class))).thenReturn(Data.ROOM);
-        when(featureRepository.findAllById(any())).thenReturn(Data.ROOM_FEATURES);
-        when(mapper.toRoomImages(any())).thenReturn(Data.ROOM_IMAGES);
-        when(repository.save(any(Room.class))).thenReturn(Data.ROOM);
+        when(repository.saveAndFlush(any(Room.class))).thenReturn(Data.ROOM);
 
         Room room = service.update(1L, Data.ROOM_REGISTER_DTO);
         assertEquals(101L, room.getRoomNumber());
+        assertThat(room.getRoomFeatures()).extracting(RoomFeature::getId).containsExactly(1L);
 
         verify(mapper).toRoom(any(RoomRegisterDTO.class));
-        verify(mapper).toRoomImages(any());
-        verify(featureRepository).findAllById(any());
-        verify(repository).save(any(Room.class));
+        verify(mapper, never()).toRoomImage(any(RoomImageRegisterDTO.class));
+        verify(featureRepository, never()).findAllById(any());
+        verify(repository).saveAndFlush(any(Room.class));
+        verify(outboxService).record("Room", 1L, null, ChangeType.UPDATED);
+    }
+
+    /**
+     * Test case to verify that the `update` method reconciles the room images by path.
+     * Validates that unchanged images keep their instance, removed paths are dropped and only new paths are mapped.
+     */
+    @Test
+    void update_shouldReconcileRoomImagesByPath() {
+        Room originalRoom = new Room();
+        originalRoom.setId(2L);
+        RoomImage keptImage = RoomImage.builder().id(10L).path("/kept").room(originalRoom).build();
+        RoomImage removedImage = RoomImage.builder().id(11L).path("/removed").room(originalRoom).build();
+        originalRoom.addRoomImage(keptImage);
+        originalRoom.addRoomImage(removedImage);
+
+        RoomRegisterDTO roomRegisterDTO = RoomRegisterDTO.builder()
+                .roomNumber(102L)
+                .priceByNight(new BigDecimal("180"))
+                .roomType("DOUBLE")
+                .roomState("AVAILABLE")
+                .roomImages(List.of(
+                        RoomImageRegisterDTO.builder().path("/kept").build(),
+                        RoomImageRegisterDTO.builder().path("/added").build()))
+                .roomFeatureIds(List.of())
+                .build();
+
+        when(repository.findById(anyLong())).thenReturn(Optional.of(originalRoom));
+        when(mapper.toRoom(any(RoomRegisterDTO.class))).thenReturn(new Room());
+        when(mapper.toRoomImage(any(RoomImageRegisterDTO.class)))
+                .thenAnswer(invocation -> RoomImage.builder()
+                        .path(invocation.<RoomImageRegisterDTO>getArgument(0).getPath())
+                        .build());
+        when(repository.saveAndFlush(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Room room = service.update(2L, roomRegisterDTO);
+
+        assertThat(room.getRoomImages()).extracting(RoomImage::getPath).containsExactly("/kept", "/added");
+        assertThat(room.getRoomImages().getFirst()).isSameAs(keptImage);
+        assertThat(room.getRoomImages().getLast().getRoom()).isSameAs(originalRoom);
+        verify(mapper, times(1)).toRoomImage(any(RoomImageRegisterDTO.class));
+    }
+
+    /**
+     * Test case to verify the `updateRoomState` method in the `RoomServiceImpl` class.
+     * Validates that the state change is delegated to the single-statement repository update and recorded as an
+     * outbox event with the new version.
+     */
+    @Test
+    void updateRoomState() {
+        when(repository.updateRoomState(anyLong(), any(RoomState.class), any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findVersionById(1L)).thenReturn(4L);
+        assertDoesNotThrow(() -> service.updateRoomState(1L, RoomState.ON_CLEANING));
+        verify(repository).updateRoomState(eq(1L), eq(RoomState.ON_CLEANING), any(LocalDateTime.class));
+        verify(repository, never()).findById(anyLong());
+        verify(outboxService).record("Room", 1L, 4L, ChangeType.UPDATED);
+    }
+
+    /**
+     * Test case to verify that the `updateRoomState` method throws `ElementNotFoundException`
+     * when no row is updated.
+     */
+    @Test
+    void updateRoomState_shouldThrowElementNotFoundException() {
+        when(repository.updateRoomState(anyLong(), any(RoomState.class), any(LocalDateTime.class))).thenReturn(0);
+        assertThrows(ElementNotFoundException.class, () -> service.updateRoomState(1L, RoomState.AVAILABLE));
+        verifyNoInteractions(outboxService);
+    }
+
+    /**
+     * Test case to verify the `patch` method in the `RoomServiceImpl` class.
+     * Validates that only the provided fields are passed to the repository update, and that the change is
+     * recorded as an outbox event with the new version.
+     */
+    @Test
+    void patch() {
+        when(repository.patchRoom(anyLong(), any(), any(), any(), any(), any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findVersionById(1L)).thenReturn(2L);
+        RoomPatchDTO roomPatchDTO = RoomPatchDTO.builder().priceByNight(new BigDecimal("180")).build();
+        assertDoesNotThrow(() -> service.patch(1L, roomPatchDTO));
+        verify(repository).patchRoom(eq(1L), isNull(), eq(new BigDecimal("180")), isNull(), isNull(),
+                any(LocalDateTime.class));
+        verify(outboxService).record("Room", 1L, 2L, ChangeType.UPDATED);
+    }
+
+    /**
+     * Test case to verify that the `patch` method rejects a DTO without any field.
+     */
+    @Test
+    void patch_shouldThrowInvalidRequestException_whenEmpty() {
+        assertThrows(InvalidRequestException.class, () -> service.patch(1L, new RoomPatchDTO()));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Test case to verify the `transitionRoomStates` method in the `RoomServiceImpl` class.
+     * Validates that transitions are grouped by state pair, that the updated rooms are resolved per room and that
+     * each of them is recorded as an outbox event with its new version.
+     */
+    @Test
+    void transitionRoomStates() {
+        when(repository.transitionRoomStates(eq(List.of(1L, 2L)), eq(RoomState.OCCUPIED), eq(RoomState.ON_CLEANING),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findVersionsByRoomStateAndUpdatedAt(eq(List.of(1L, 2L)), eq(RoomState.ON_CLEANING),
+                any(LocalDateTime.class))).thenReturn(List.of(roomVersion(2L, 5L)));
+        when(repository.transitionRoomStates(eq(List.of(3L)), eq(RoomState.ON_CLEANING), eq(RoomState.AVAILABLE),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(repository.findVersionsByRoomStateAndUpdatedAt(eq(List.of(3L)), eq(RoomState.AVAILABLE),
+                any(LocalDateTime.class))).thenReturn(List.of(roomVersion(3L, 8L)));
+
+        List<RoomStateTransitionResultDTO> results = service.transitionRoomStates(List.of(
+                new RoomStateTransitionDTO(1L, RoomState.OCCUPIED, RoomState.ON_CLEANING),
+                new RoomStateTransitionDTO(2L, RoomState.OCCUPIED, RoomState.ON_CLEANING),
+                new RoomStateTransitionDTO(3L, RoomState.ON_CLEANING, RoomState.AVAILABLE)));
+
+        assertThat(results).extracting(RoomStateTransitionResultDTO::getRoomId).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(RoomStateTransitionResultDTO::isApplied).containsExactly(false, true, true);
+        verify(repository, times(2)).transitionRoomStates(any(), any(), any(), any());
+        verify(repository, times(2)).findVersionsByRoomStateAndUpdatedAt(any(), any(), any());
+        verify(outboxService).record("Room", 2L, 5L, ChangeType.UPDATED);
+        verify(outboxService).record("Room", 3L, 8L, ChangeType.UPDATED);
+        verifyNoMoreInteractions(outboxService);
+    }
+
+    /**
+     * Test case to verify that the `transitionRoomStates` method rejects a room listed more than once.
+     */
+    @Test
+    void transitionRoomStates_shouldThrowInvalidRequestException_whenRoomIsRepeated() {
+        List<RoomStateTransitionDTO> transitions = List.of(
+                new RoomStateTransitionDTO(1L, RoomState.OCCUPIED, RoomState.ON_CLEANING),
+                new RoomStateTransitionDTO(1L, RoomState.ON_CLEANING, RoomState.AVAILABLE));
+        assertThrows(InvalidRequestException.class, () -> service.transitionRoomStates(transitions));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Test case to verify the `reprice` method in the `RoomServiceImpl` class.
+     * Validates that a percentage is translated to a multiplier, that the default scale is used and that each
+     * repriced room is recorded as an outbox event with its new version.
+     */
+    @Test
+    void reprice() {
+        when(repository.reprice(any(), any(), any(), any(), any(), any(), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(3);
+        when(repository.findVersionsByUpdatedAt(eq(RoomType.SUITE), isNull(), any(LocalDateTime.class)))
+                .thenReturn(List.of(roomVersion(1L, 2L), roomVersion(2L, 3L), roomVersion(3L, 4L)));
+        RoomRepriceDTO roomRepriceDTO = RoomRepriceDTO.builder()
+                .roomType(RoomType.SUITE)
+                .operation(RoomRepriceDTO.PriceOperation.PERCENTAGE)
+                .value(new BigDecimal("12"))
+                .build();
+
+        RoomRepriceResultDTO result = service.reprice(roomRepriceDTO);
+
+        assertEquals(3, result.getAffectedRooms());
+        verify(repository).reprice(eq(RoomType.SUITE), isNull(), isNull(), isNull(),
+                argThat(multiplier -> multiplier.compareTo(new BigDecimal("1.12")) == 0),
+                argThat(delta -> delta.signum() == 0), eq(2), any(LocalDateTime.class));
+        verify(outboxService).record("Room", 1L, 2L, ChangeType.UPDATED);
+        verify(outboxService).record("Room", 2L, 3L, ChangeType.UPDATED);
+        verify(outboxService).record("Room", 3L, 4L, ChangeType.UPDATED);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test case to verify that the `reprice` method rejects an inverted price range and a negative new price.
+     */
+    @Test
+    void reprice_shouldThrowInvalidRequestException_whenRequestIsInvalid() {
+        RoomRepriceDTO invertedRange = RoomRepriceDTO.builder()
+                .minPrice(new BigDecimal("200"))
+                .maxPrice(new BigDecimal("100"))
+                .operation(RoomRepriceDTO.PriceOperation.DELTA)
+                .value(BigDecimal.TEN)
+                .build();
+        RoomRepriceDTO negativePrice = RoomRepriceDTO.builder()
+                .operation(RoomRepriceDTO.PriceOperation.SET)
+                .value(new BigDecimal("-1"))
+                .build();
+        assertThrows(InvalidRequestException.class, () -> service.reprice(invertedRange));
+        assertThrows(InvalidRequestException.class, () -> service.reprice(negativePrice));
+        verifyNoInteractions(repository);
+    }
+
+    /**
+     * Tests that exporting the rooms hands each streamed room to the consumer, clears the persistence context
+     * once the last chunk is consumed and closes the stream.
+     */
+    @Test
+    void exportAll_shouldClearPersistenceContextAndCloseTheStream() {
+        List<Room> exported = new ArrayList<>();
+        boolean[] closed = {false};
+        when(repository.streamAll()).thenReturn(Stream.of(Data.ROOM).onClose(() -> closed[0] = true));
+
+        service.exportAll(exported::add);
+
+        assertThat(exported).containsExactly(Data.ROOM);
+        verify(entityManager).clear();
+        assertEquals(true, closed[0]);
+    }
+
+    private static IRoomRepository.RoomVersion roomVersion(Long id, Long version) {
+        return new IRoomRepository.RoomVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
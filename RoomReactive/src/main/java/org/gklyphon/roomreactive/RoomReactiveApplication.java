@@ -0,0 +1,20 @@
+package org.gklyphon.roomreactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Reactive, read-only API over the schema of the Room service.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@SpringBootApplication
+public class RoomReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(RoomReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,175 @@
+package org.gklyphon.roomreactive.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.gklyphon.roomreactive.service.IRoomReactiveService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive, read-only REST controller for {@link Room} queries.
+ * <p>
+ * Exposes the read queries of the Room service, with the same parameters, under {@code /reactive/rooms}.
+ * The responses are not those of the Room service: lists are returned as a JSON array of rooms without paging
+ * metadata, or streamed one room per line when {@code application/x-ndjson} is accepted, and rooms carry their own
+ * columns only, without images or features. The distinct paths keep clients from mistaking one API for the other.
+ * </p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@RestController
+@RequestMapping("/reactive/rooms")
+@RequiredArgsConstructor
+public class RoomReactiveController {
+
+    private final IRoomReactiveService service;
+
+    /**
+     * Retrieves a page of rooms.
+     *
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getAllRooms(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findAll(page, size);
+    }
+
+    /**
+     * Streams every room as newline-delimited JSON, at the pace the client reads it.
+     *
+     * @return all the rooms, one JSON room per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Room> export() {
+        return service.streamAll();
+    }
+
+    /**
+     * Retrieves a room by its ID.
+     *
+     * @param id the ID of the room to retrieve
+     * @return the room
+     */
+    @GetMapping("/{id}")
+    public Mono<Room> getById(@PathVariable Long id) {
+        return service.findById(id);
+    }
+
+    /**
+     * Retrieves rooms with a price per night between the specified range.
+     *
+     * @param min the minimum price per night
+     * @param max the maximum price per night
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/price-by-night-between",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByPriceByNightBetween(
+            @RequestParam(name = "min") BigDecimal min,
+            @RequestParam(name = "max") BigDecimal max,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByPriceByNightBetween(min, max, page, size);
+    }
+
+    /**
+     * Retrieves rooms with a price per night greater than the specified value.
+     *
+     * @param priceByNight the minimum price per night
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/price-by-night-grater-than",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByPriceByNightGreaterThan(
+            @RequestParam(name = "price-by-night") BigDecimal priceByNight,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByPriceByNightGreaterThan(priceByNight, page, size);
+    }
+
+    /**
+     * Retrieves rooms with a price per night less than the specified value.
+     *
+     * @param priceByNight the maximum price per night
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/price-by-night-less-than",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByPriceByNightLessThan(
+            @RequestParam(name = "price-by-night") BigDecimal priceByNight,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByPriceByNightLessThan(priceByNight, page, size);
+    }
+
+    /**
+     * Retrieves rooms by their state.
+     *
+     * @param roomState the state of the room
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/by-room-state",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByRoomState(
+            @RequestParam(name = "room-state") RoomState roomState,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByRoomState(roomState, page, size);
+    }
+
+    /**
+     * Retrieves rooms by their type.
+     *
+     * @param roomType the type of the room
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/by-room-type",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByRoomType(
+            @RequestParam(name = "room-type") RoomType roomType,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByRoomType(roomType, page, size);
+    }
+
+    /**
+     * Retrieves rooms by their type and state.
+     *
+     * @param roomType the type of the room
+     * @param roomState the state of the room
+     * @param page the page number (default is 0)
+     * @param size the number of rooms per page (default is 10)
+     * @return the rooms of the page
+     */
+    @GetMapping(value = "/by-room-type-and-room-state",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Room> getByRoomTypeAndRoomState(
+            @RequestParam(name = "room-type") RoomType roomType,
+            @RequestParam(name = "room-state") RoomState roomState,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return service.findByRoomTypeAndRoomState(roomType, roomState, page, size);
+    }
+}
@@ -0,0 +1,75 @@
+package org.gklyphon.roomreactive.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.gklyphon.roomreactive.exception.custom.ElementNotFoundException;
+import org.gklyphon.roomreactive.exception.custom.InvalidRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Global exception handler of the reactive API.
+ *
+ * <p>Provides the same custom error responses as the Room service for {@link ElementNotFoundException},
+ * {@link InvalidRequestException}, missing or malformed request parameters ({@link ServerWebInputException}),
+ * and a generic {@link Exception}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles {@link ElementNotFoundException} and returns a custom error response with a 404 status code.
+     *
+     * @param e the {@link ElementNotFoundException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 404 status code
+     */
+    @ExceptionHandler(ElementNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleElementNotFoundException(ElementNotFoundException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link InvalidRequestException} and returns a custom error response with a 400 status code.
+     *
+     * @param e the {@link InvalidRequestException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles missing or malformed request parameters and returns a custom error response with a 400 status code.
+     *
+     * @param e the {@link ServerWebInputException} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 400 status code
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getReason(), HttpStatus.BAD_REQUEST);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles generic {@link Exception} and returns a custom error response with a 500 status code.
+     *
+     * @param e the {@link Exception} to handle
+     * @return a {@link ResponseEntity} containing the {@link ErrorResponse} with a 500 status code
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        log.error("Unexpected error while processing the request.", e);
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        return ResponseEntity.internalServerError().body(errorResponse);
+    }
+}
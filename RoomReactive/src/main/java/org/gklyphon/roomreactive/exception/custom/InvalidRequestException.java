@@ -0,0 +1,22 @@
+package org.gklyphon.roomreactive.exception.custom;
+
+/**
+ * Exception thrown when a request is syntactically valid but cannot be processed as sent.
+ *
+ * <p>This exception is used for request parameters that cannot be processed, such as a page size out of bounds.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new {@link InvalidRequestException} with the specified detail message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link Throwable#getMessage()} method)
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
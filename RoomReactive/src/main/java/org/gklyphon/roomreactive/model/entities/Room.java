@@ -0,0 +1,70 @@
+package org.gklyphon.roomreactive.model.entities;
+
+import lombok.*;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a row of the {@code rooms} table written by the Room service.
+ *
+ * <p>Only the columns of the room itself are mapped. Images and additional features live in their own tables
+ * and are served by the Room service.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("rooms")
+public class Room {
+
+    /**
+     * The unique identifier for the room.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * The room number.
+     */
+    private Long roomNumber;
+
+    /**
+     * The price per night for the room.
+     */
+    private BigDecimal priceByNight;
+
+    /**
+     * The type of the room, such as SIMPLE, DOUBLE, or SUITE.
+     */
+    private RoomType roomType;
+
+    /**
+     * The current state of the room, such as AVAILABLE or OCCUPIED.
+     */
+    private RoomState roomState;
+
+    /**
+     * The version of the room, incremented by the Room service on every change.
+     */
+    private Long version;
+
+    /**
+     * The date and time when the room was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * The date and time when the room was last updated.
+     */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package org.gklyphon.roomreactive.model.entities.enums;
+
+/**
+ * Enum representing the different types of rooms available.
+ *
+ * <p>This enum defines the types of rooms, such as simple rooms, double rooms, and suites,
+ * which may vary in size and amenities.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public enum RoomType {
+
+    /**
+     * A simple room, typically a small room with basic amenities.
+     */
+    SIMPLE,
+
+    /**
+     * A double room, typically with two beds or a larger space suitable for two people.
+     */
+    DOUBLE,
+
+    /**
+     * A suite room, typically larger with additional amenities such as a living area.
+     */
+    SUITE
+}
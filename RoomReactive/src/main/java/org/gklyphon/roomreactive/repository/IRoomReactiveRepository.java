@@ -0,0 +1,94 @@
+package org.gklyphon.roomreactive.repository;
+
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive repository for reading {@link Room} rows.
+ *
+ * <p>Provides the same queries as the {@code IRoomRepository} of the Room service. Results are emitted as
+ * they are read from the connection, with backpressure propagated down to the driver.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRoomReactiveRepository extends ReactiveCrudRepository<Room, Long> {
+
+    /**
+     * Finds a page of rooms.
+     *
+     * @param pageable pagination information
+     * @return the rooms of the page
+     */
+    Flux<Room> findAllBy(Pageable pageable);
+
+    /**
+     * Finds rooms with a nightly price greater than the specified value.
+     *
+     * @param priceByNight the price to compare against
+     * @param pageable pagination information
+     * @return the rooms of the page with a nightly price greater than the specified value
+     */
+    Flux<Room> findByPriceByNightGreaterThan(BigDecimal priceByNight, Pageable pageable);
+
+    /**
+     * Finds rooms with a nightly price less than the specified value.
+     *
+     * @param priceByNight the price to compare against
+     * @param pageable pagination information
+     * @return the rooms of the page with a nightly price less than the specified value
+     */
+    Flux<Room> findByPriceByNightLessThan(BigDecimal priceByNight, Pageable pageable);
+
+    /**
+     * Finds rooms with a nightly price between the specified range.
+     *
+     * @param min the minimum price
+     * @param max the maximum price
+     * @param pageable pagination information
+     * @return the rooms of the page with a nightly price between the specified range
+     */
+    Flux<Room> findByPriceByNightBetween(BigDecimal min, BigDecimal max, Pageable pageable);
+
+    /**
+     * Finds rooms by their type.
+     *
+     * @param roomType the type of the room
+     * @param pageable pagination information
+     * @return the rooms of the page with the specified type
+     */
+    Flux<Room> findByRoomType(RoomType roomType, Pageable pageable);
+
+    /**
+     * Finds rooms by their state.
+     *
+     * @param roomState the state of the room
+     * @param pageable pagination information
+     * @return the rooms of the page with the specified state
+     */
+    Flux<Room> findByRoomState(RoomState roomState, Pageable pageable);
+
+    /**
+     * Finds rooms by their type and state.
+     *
+     * @param roomType the type of the room
+     * @param roomState the state of the room
+     * @param pageable pagination information
+     * @return the rooms of the page with the specified type and state
+     */
+    Flux<Room> findByRoomTypeAndRoomState(RoomType roomType, RoomState roomState, Pageable pageable);
+
+    /**
+     * Streams every room in ID order.
+     *
+     * @return all the rooms, emitted as they are read
+     */
+    Flux<Room> findAllByOrderById();
+}
@@ -0,0 +1,107 @@
+package org.gklyphon.roomreactive.service;
+
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive, read-only service for {@link Room} queries.
+ *
+ * <p>Pages are ordered by room ID, so consecutive pages do not overlap.</p>
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+public interface IRoomReactiveService {
+
+    /**
+     * Finds a room by its ID.
+     *
+     * @param id the ID of the room
+     * @return the room, or an error if it does not exist
+     */
+    Mono<Room> findById(Long id);
+
+    /**
+     * Finds a page of rooms.
+     *
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findAll(int page, int size);
+
+    /**
+     * Finds rooms where the price per night is greater than the given value.
+     *
+     * @param priceByNight the minimum price per night
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByPriceByNightGreaterThan(BigDecimal priceByNight, int page, int size);
+
+    /**
+     * Finds rooms where the price per night is less than the given value.
+     *
+     * @param priceByNight the maximum price per night
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByPriceByNightLessThan(BigDecimal priceByNight, int page, int size);
+
+    /**
+     * Finds rooms where the price per night is between the given range.
+     *
+     * @param min the minimum price per night
+     * @param max the maximum price per night
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByPriceByNightBetween(BigDecimal min, BigDecimal max, int page, int size);
+
+    /**
+     * Finds rooms by their type.
+     *
+     * @param roomType the room type to filter by
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByRoomType(RoomType roomType, int page, int size);
+
+    /**
+     * Finds rooms by their state.
+     *
+     * @param roomState the room state to filter by
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByRoomState(RoomState roomState, int page, int size);
+
+    /**
+     * Finds rooms by both room type and room state.
+     *
+     * @param roomType the room type to filter by
+     * @param roomState the room state to filter by
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page
+     */
+    Flux<Room> findByRoomTypeAndRoomState(RoomType roomType, RoomState roomState, int page, int size);
+
+    /**
+     * Streams the whole catalog in ID order, at the pace the subscriber requests it.
+     *
+     * @return all the rooms
+     */
+    Flux<Room> streamAll();
+}
@@ -0,0 +1,116 @@
+package org.gklyphon.roomreactive.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.gklyphon.roomreactive.exception.custom.ElementNotFoundException;
+import org.gklyphon.roomreactive.exception.custom.InvalidRequestException;
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.gklyphon.roomreactive.repository.IRoomReactiveRepository;
+import org.gklyphon.roomreactive.service.IRoomReactiveService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementation of the {@link IRoomReactiveService} interface.
+ * Queries are delegated to the {@link IRoomReactiveRepository} after validating the page parameters.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomReactiveServiceImpl implements IRoomReactiveService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final IRoomReactiveRepository repository;
+
+    /**
+     * Finds a room by its ID.
+     *
+     * @param id the ID of the room
+     * @return the room, or an {@link ElementNotFoundException} if it does not exist
+     */
+    @Override
+    public Mono<Room> findById(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ElementNotFoundException("Room with id " + id + " not found.")));
+    }
+
+    @Override
+    public Flux<Room> findAll(int page, int size) {
+        return Flux.defer(() -> repository.findAllBy(pageable(page, size)));
+    }
+
+    @Override
+    public Flux<Room> findByPriceByNightGreaterThan(BigDecimal priceByNight, int page, int size) {
+        return Flux.defer(() -> repository.findByPriceByNightGreaterThan(priceByNight, pageable(page, size)));
+    }
+
+    @Override
+    public Flux<Room> findByPriceByNightLessThan(BigDecimal priceByNight, int page, int size) {
+        return Flux.defer(() -> repository.findByPriceByNightLessThan(priceByNight, pageable(page, size)));
+    }
+
+    /**
+     * Finds rooms where the price per night is between the given range.
+     *
+     * @param min the minimum price per night
+     * @param max the maximum price per night
+     * @param page the page number
+     * @param size the number of rooms per page
+     * @return the rooms of the page, or an {@link InvalidRequestException} if the range is inverted
+     */
+    @Override
+    public Flux<Room> findByPriceByNightBetween(BigDecimal min, BigDecimal max, int page, int size) {
+        return Flux.defer(() -> {
+            if (min.compareTo(max) > 0) {
+                return Flux.error(new InvalidRequestException("min must be less than or equal to max."));
+            }
+            return repository.findByPriceByNightBetween(min, max, pageable(page, size));
+        });
+    }
+
+    @Override
+    public Flux<Room> findByRoomType(RoomType roomType, int page, int size) {
+        return Flux.defer(() -> repository.findByRoomType(roomType, pageable(page, size)));
+    }
+
+    @Override
+    public Flux<Room> findByRoomState(RoomState roomState, int page, int size) {
+        return Flux.defer(() -> repository.findByRoomState(roomState, pageable(page, size)));
+    }
+
+    @Override
+    public Flux<Room> findByRoomTypeAndRoomState(RoomType roomType, RoomState roomState, int page, int size) {
+        return Flux.defer(() -> repository.findByRoomTypeAndRoomState(roomType, roomState, pageable(page, size)));
+    }
+
+    @Override
+    public Flux<Room> streamAll() {
+        return repository.findAllByOrderById();
+    }
+
+    /**
+     * Builds a page request ordered by ID.
+     *
+     * @throws InvalidRequestException if the page is negative or the size is out of bounds
+     */
+    private Pageable pageable(int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException("page must be greater than or equal to 0.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return PageRequest.of(page, size, Sort.by("id"));
+    }
+}
@@ -0,0 +1,13 @@
+package org.gklyphon.roomreactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RoomReactiveApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,129 @@
+package org.gklyphon.roomreactive.controller;
+
+import org.gklyphon.roomreactive.exception.custom.ElementNotFoundException;
+import org.gklyphon.roomreactive.exception.custom.InvalidRequestException;
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.gklyphon.roomreactive.service.IRoomReactiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link RoomReactiveController} class.
+ * Uses {@link WebTestClient} against a mocked {@link IRoomReactiveService}.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@WebFluxTest(RoomReactiveController.class)
+class RoomReactiveControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @MockBean
+    IRoomReactiveService service;
+
+    final String API_URL = "/reactive/rooms";
+
+    final Room ROOM = Room.builder()
+            .id(1L)
+            .roomNumber(101L)
+            .priceByNight(new BigDecimal("150.00"))
+            .roomType(RoomType.SUITE)
+            .roomState(RoomState.AVAILABLE)
+            .version(0L)
+            .build();
+
+    @Test
+    void getAllRooms() {
+        when(service.findAll(0, 10)).thenReturn(Flux.just(ROOM, ROOM));
+        webTestClient.get().uri(API_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].roomNumber").isEqualTo(101);
+    }
+
+    @Test
+    void getAllRooms_shouldStreamNdjson() {
+        when(service.findAll(0, 10)).thenReturn(Flux.just(ROOM, ROOM));
+        webTestClient.get().uri(API_URL)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Room.class).hasSize(2);
+    }
+
+    @Test
+    void export() {
+        when(service.streamAll()).thenReturn(Flux.just(ROOM, ROOM, ROOM));
+        webTestClient.get().uri(API_URL + "/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Room.class).hasSize(3);
+    }
+
+    @Test
+    void getById() {
+        when(service.findById(1L)).thenReturn(Mono.just(ROOM));
+        webTestClient.get().uri(API_URL + "/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.roomType").isEqualTo("SUITE");
+    }
+
+    @Test
+    void getById_shouldReturnNotFound() {
+        when(service.findById(anyLong())).thenReturn(Mono.error(new ElementNotFoundException("Room with id 1 not found.")));
+        webTestClient.get().uri(API_URL + "/1")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void getByRoomTypeAndRoomState() {
+        when(service.findByRoomTypeAndRoomState(RoomType.SUITE, RoomState.AVAILABLE, 0, 10)).thenReturn(Flux.just(ROOM));
+        webTestClient.get().uri(API_URL + "/by-room-type-and-room-state?room-type=SUITE&room-state=AVAILABLE")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1);
+    }
+
+    @Test
+    void getByPriceByNightBetween_shouldReturnBadRequest_whenParameterIsMissing() {
+        webTestClient.get().uri(API_URL + "/price-by-night-between?min=10")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void getAllRooms_shouldReturnBadRequest_whenSizeIsOutOfBounds() {
+        when(service.findAll(anyInt(), anyInt())).thenReturn(Flux.error(new InvalidRequestException("size must be between 1 and 100.")));
+        webTestClient.get().uri(API_URL + "?size=1000")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
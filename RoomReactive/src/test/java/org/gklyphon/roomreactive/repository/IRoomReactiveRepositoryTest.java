@@ -0,0 +1,101 @@
+package org.gklyphon.roomreactive.repository;
+
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.model.entities.enums.RoomState;
+import org.gklyphon.roomreactive.model.entities.enums.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+/**
+ * Persistence tests for the queries of {@link IRoomReactiveRepository}.
+ * Runs against an embedded database whose {@code rooms} table has the same columns as the one written by
+ * the Room service.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@DataR2dbcTest
+class IRoomReactiveRepositoryTest {
+
+    @Autowired
+    IRoomReactiveRepository repository;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM rooms").then()
+                .thenMany(Flux.just(
+                        "(1, 101, 100.00, 'SIMPLE', 'AVAILABLE', 0)",
+                        "(2, 102, 150.00, 'DOUBLE', 'AVAILABLE', 0)",
+                        "(3, 103, 250.00, 'SUITE', 'OCCUPIED', 0)",
+                        "(4, 104, 300.00, 'SUITE', 'AVAILABLE', 0)"))
+                .concatMap(values -> databaseClient.sql("INSERT INTO rooms "
+                        + "(id, room_number, price_by_night, room_type, room_state, version) VALUES " + values).then())
+                .blockLast();
+    }
+
+    /**
+     * Rooms must be read with their enum columns mapped.
+     */
+    @Test
+    void findById_shouldMapRoomColumns() {
+        StepVerifier.create(repository.findById(3L))
+                .expectNextMatches(room -> room.getRoomNumber() == 103L
+                        && room.getRoomType() == RoomType.SUITE
+                        && room.getRoomState() == RoomState.OCCUPIED
+                        && room.getPriceByNight().compareTo(new BigDecimal("250.00")) == 0)
+                .verifyComplete();
+    }
+
+    /**
+     * Pages must be limited and offset in the requested order.
+     */
+    @Test
+    void findAllBy_shouldReturnRequestedPage() {
+        StepVerifier.create(repository.findAllBy(PageRequest.of(1, 2, Sort.by("id"))).map(Room::getId))
+                .expectNext(3L, 4L)
+                .verifyComplete();
+    }
+
+    /**
+     * Price and type filters must be applied in the query.
+     */
+    @Test
+    void findByFilters_shouldReturnMatchingRooms() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("id"));
+        StepVerifier.create(repository.findByPriceByNightBetween(
+                        new BigDecimal("120.00"), new BigDecimal("260.00"), pageable).map(Room::getId))
+                .expectNext(2L, 3L)
+                .verifyComplete();
+        StepVerifier.create(repository.findByRoomTypeAndRoomState(RoomType.SUITE, RoomState.AVAILABLE, pageable)
+                        .map(Room::getId))
+                .expectNext(4L)
+                .verifyComplete();
+    }
+
+    /**
+     * The catalog must be emitted only as fast as the subscriber requests it.
+     */
+    @Test
+    void findAllByOrderById_shouldHonourBackpressure() {
+        StepVerifier.create(repository.findAllByOrderById().map(Room::getId), 1)
+                .expectNext(1L)
+                .thenRequest(2)
+                .expectNext(2L, 3L)
+                .thenRequest(1)
+                .expectNext(4L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,76 @@
+package org.gklyphon.roomreactive.service.impl;
+
+import org.gklyphon.roomreactive.exception.custom.ElementNotFoundException;
+import org.gklyphon.roomreactive.exception.custom.InvalidRequestException;
+import org.gklyphon.roomreactive.model.entities.Room;
+import org.gklyphon.roomreactive.repository.IRoomReactiveRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link RoomReactiveServiceImpl} class.
+ * Uses a mocked {@link IRoomReactiveRepository} to verify the page parameters and the errors emitted.
+ *
+ * @author JFCiscoHuerta
+ * @version 1.0
+ * @since 19-Oct-2026
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomReactiveServiceImplTest {
+
+    @Mock
+    IRoomReactiveRepository repository;
+
+    @InjectMocks
+    RoomReactiveServiceImpl service;
+
+    @Test
+    void findById() {
+        Room room = Room.builder().id(1L).roomNumber(101L).build();
+        when(repository.findById(1L)).thenReturn(Mono.just(room));
+        StepVerifier.create(service.findById(1L)).expectNext(room).verifyComplete();
+    }
+
+    @Test
+    void findById_shouldEmitElementNotFoundException() {
+        when(repository.findById(1L)).thenReturn(Mono.empty());
+        StepVerifier.create(service.findById(1L)).expectError(ElementNotFoundException.class).verify();
+    }
+
+    @Test
+    void findAll_shouldRequestPageOrderedById() {
+        when(repository.findAllBy(any(Pageable.class))).thenReturn(Flux.empty());
+        StepVerifier.create(service.findAll(2, 20)).verifyComplete();
+        verify(repository).findAllBy(PageRequest.of(2, 20, Sort.by("id")));
+    }
+
+    @Test
+    void findAll_shouldEmitInvalidRequestException_whenSizeIsOutOfBounds() {
+        StepVerifier.create(service.findAll(0, RoomReactiveServiceImpl.MAX_PAGE_SIZE + 1))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void findByPriceByNightBetween_shouldEmitInvalidRequestException_whenRangeIsInverted() {
+        StepVerifier.create(service.findByPriceByNightBetween(BigDecimal.TEN, BigDecimal.ONE, 0, 10))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS rooms (
+    id BIGINT PRIMARY KEY,
+    room_number BIGINT,
+    price_by_night DECIMAL(38, 2),
+    room_type VARCHAR(255),
+    room_state VARCHAR(255),
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
@@ -0,0 +1,20 @@
+#!/bin/bash
+# Runs once, when the replica data directory is initialised: replicates the whole source, using GTID auto-positioning.
+set -e
+
+mysql_cli=(mysql -uroot -p"${MYSQL_ROOT_PASSWORD}")
+
+until mysqladmin ping -h"${SOURCE_HOST}" -uroot -p"${SOURCE_PASSWORD}" --silent; do
+  sleep 2
+done
+
+"${mysql_cli[@]}" -e "RESET BINARY LOGS AND GTIDS" 2>/dev/null || "${mysql_cli[@]}" -e "RESET MASTER"
+"${mysql_cli[@]}" <<SQL
+CHANGE REPLICATION SOURCE TO
+  SOURCE_HOST='${SOURCE_HOST}',
+  SOURCE_USER='root',
+  SOURCE_PASSWORD='${SOURCE_PASSWORD}',
+  SOURCE_AUTO_POSITION=1,
+  GET_SOURCE_PUBLIC_KEY=1;
+START REPLICA;
+SQL
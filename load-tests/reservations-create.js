@@ -0,0 +1,40 @@
+// Write load on the Reservation service: reservation creation with a unique Idempotency-Key per request.
+//
+//   k6 run -e BASE_URL=http://localhost:8082 -e RATE=200 -e DURATION=2m load-tests/reservations-create.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { uuidv4 } from 'https://jslib.k6.io/k6-utils/1.4.0/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const MAX_ROOM_ID = Number(__ENV.MAX_ROOM_ID || 100);
+
+export const options = {
+    scenarios: {
+        creations: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 200),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: Number(__ENV.VUS || 200),
+            maxVUs: Number(__ENV.MAX_VUS || 2000),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const userId = 1 + Math.floor(Math.random() * 10000);
+    const start = new Date(Date.UTC(2030, 0, 1 + Math.floor(Math.random() * 300)));
+    const end = new Date(start.getTime() + 3 * 24 * 60 * 60 * 1000);
+    const body = JSON.stringify({
+        userId: userId,
+        startDate: start.toISOString().slice(0, 10),
+        endDate: end.toISOString().slice(0, 10),
+        roomReservations: [{ roomId: 1 + Math.floor(Math.random() * MAX_ROOM_ID) }],
+        userReservations: [{ userId: userId }],
+    });
+    const response = http.post(`${BASE_URL}/reservations/create`, body, {
+        headers: { 'Content-Type': 'application/json', 'Idempotency-Key': uuidv4() },
+    });
+    check(response, { 'status is 201': (r) => r.status === 201 });
+}
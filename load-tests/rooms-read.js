@@ -0,0 +1,31 @@
+// Read load on the Room service: paged listing and lookups by ID.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e RATE=500 -e DURATION=2m load-tests/rooms-read.js
+//   k6 run -e BASE_URL=http://localhost:8083 -e ROOMS_PATH=/reactive/rooms load-tests/rooms-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const ROOMS_PATH = __ENV.ROOMS_PATH || '/rooms';
+const MAX_ROOM_ID = Number(__ENV.MAX_ROOM_ID || 100);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 500),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: Number(__ENV.VUS || 200),
+            maxVUs: Number(__ENV.MAX_VUS || 2000),
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const response = Math.random() < 0.5
+        ? http.get(`${BASE_URL}${ROOMS_PATH}?page=${Math.floor(Math.random() * 10)}&size=20`, { tags: { name: 'list' } })
+        : http.get(`${BASE_URL}${ROOMS_PATH}/${1 + Math.floor(Math.random() * MAX_ROOM_ID)}`, { tags: { name: 'by-id' } });
+    check(response, { 'status is 200 or 404': (r) => r.status === 200 || r.status === 404 });
+}
@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Checks that the classes copied between the Room and Reservation services are still identical,
+# apart from their package names. See "Code shared between services" in the README.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+# Paths in the Room module; the Reservation copy is found by mapping the package names.
+COPIES=(
+  src/test/java/org/gklyphon/room/SqlStatementRecorder.java
+  src/main/java/org/gklyphon/room/exception/custom/IdempotencyKeyInProgressException.java
+  src/main/java/org/gklyphon/room/exception/custom/IdempotencyKeyMismatchException.java
+  src/main/java/org/gklyphon/room/idempotency/IdempotencyKeyPurger.java
+  src/main/java/org/gklyphon/room/model/entities/IdempotencyKey.java
+  src/main/java/org/gklyphon/room/repository/IIdempotencyKeyRepository.java
+  src/main/java/org/gklyphon/room/service/IIdempotencyService.java
+  src/main/java/org/gklyphon/room/service/impl/IdempotencyServiceImpl.java
+  src/main/java/org/gklyphon/room/concurrency/AdaptiveConcurrencyLimiter.java
+  src/main/java/org/gklyphon/room/concurrency/ConcurrencyLimitFilter.java
+  src/main/java/org/gklyphon/room/concurrency/GradientLimit.java
+  src/main/java/org/gklyphon/room/concurrency/CpuLoadSampler.java
+  src/main/java/org/gklyphon/room/datasource/PrimaryStickinessFilter.java
+  src/main/java/org/gklyphon/room/datasource/ReadReplicaConfig.java
+  src/main/java/org/gklyphon/room/datasource/ReadReplicaProperties.java
+  src/main/java/org/gklyphon/room/datasource/ReplicaRoutingContext.java
+  src/main/java/org/gklyphon/room/datasource/ReplicaRoutingDataSource.java
+  src/main/java/org/gklyphon/room/config/ConnectionPoolHealthIndicator.java
+  src/main/java/org/gklyphon/room/config/HikariPoolSizer.java
+  src/main/java/org/gklyphon/room/outbox/ApplicationEventOutboxSink.java
+  src/main/java/org/gklyphon/room/outbox/OutboxEventSink.java
+  src/main/java/org/gklyphon/room/outbox/OutboxRelay.java
+  src/main/java/org/gklyphon/room/outbox/WebhookOutboxSink.java
+  src/main/java/org/gklyphon/room/repository/IOutboxEventRepository.java
+  src/main/java/org/gklyphon/room/service/IOutboxService.java
+  src/main/java/org/gklyphon/room/service/impl/OutboxServiceImpl.java
+)
+
+status=0
+for room in "${COPIES[@]}"; do
+  reservation=$(sed -e 's#/room/model/entities/#/Reservation/models/entities/#' \
+                    -e 's#/room/exception/custom/#/Reservation/exception/exception/#' \
+                    -e 's#/room/#/Reservation/#' <<< "$room")
+  if ! sed -e 's/org\.gklyphon\.room\.model\.entities/org.gklyphon.Reservation.models.entities/' \
+           -e 's/org\.gklyphon\.room\.exception\.custom/org.gklyphon.Reservation.exception.exception/' \
+           -e 's/org\.gklyphon\.room/org.gklyphon.Reservation/g' "Room/$room" \
+      | diff -u --label "Room/$room" --label "Reservation/$reservation" - "Reservation/$reservation"; then
+    status=1
+  fi
+done
+exit $status